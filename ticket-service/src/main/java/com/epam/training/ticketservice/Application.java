@@ -1,12 +1,15 @@
 package com.epam.training.ticketservice;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @SpringBootApplication
+@EnableScheduling
 public class Application {
 
     public static void main(String[] args) {
@@ -14,17 +17,15 @@ public class Application {
     }
 
     /**
-     * Configures and provides an {@code ObjectMapper} bean.
-     * The configured {@code ObjectMapper} includes support for Java 8 date and time types
-     * by registering the {@code JavaTimeModule}.
+     * Configures and provides the {@code PasswordEncoder} bean used to hash and verify passwords.
+     * Each extra point of strength doubles the work of verifying a password at sign in.
      *
-     * @return A configured {@code ObjectMapper} instance.
+     * @param strength The bcrypt cost factor, the base-2 logarithm of the number of hashing rounds.
+     * @return A bcrypt {@code PasswordEncoder} with the configured strength.
      */
     @Bean
-    public ObjectMapper objectMapper() {
-        var objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        return objectMapper;
+    public PasswordEncoder passwordEncoder(@Value("${ticket-service.security.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 }
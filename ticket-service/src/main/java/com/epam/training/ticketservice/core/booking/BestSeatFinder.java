@@ -0,0 +1,82 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.Optional;
+
+/**
+ * Finds the best free block of adjacent seats in a screening's seat map.
+ * Every free run of a row is considered, and within a run the block is placed as close to the
+ * centre column as the run allows. Blocks are scored by the squared distance of their centre from
+ * the centre of the room, so a single pass over the map is enough.
+ */
+public final class BestSeatFinder {
+
+    private BestSeatFinder() {
+    }
+
+    /**
+     * Finds the free block of adjacent seats in one row whose centre is closest to the centre of the room.
+     * Ties are resolved in favour of the front row and then the left block.
+     *
+     * @param seatMap The seat map of the screening.
+     * @param count   The number of adjacent seats requested.
+     * @return An {@code Optional} containing the bit indices of the seats of the block from left to right,
+     *         or empty if no row has enough adjacent free seats.
+     */
+    public static Optional<int[]> find(SeatMap seatMap, int count) {
+        int rows = seatMap.getRows();
+        int columns = seatMap.getColumns();
+        if (count <= 0 || count > columns) {
+            return Optional.empty();
+        }
+
+        // Doubled coordinates keep the centres integral for both odd and even sizes
+        long centreRow2 = rows - 1;
+        long centreColumn2 = columns - 1;
+        int idealStart = (columns - count) / 2;
+        long bestScore = Long.MAX_VALUE;
+        int bestIndex = -1;
+
+        for (int row = 0; row < rows; row++) {
+            long rowDistance = 2L * row - centreRow2;
+            long rowScore = rowDistance * rowDistance;
+            if (rowScore >= bestScore) {
+                continue;
+            }
+
+            int rowOffset = row * columns;
+            int column = 0;
+            while (column < columns) {
+                if (seatMap.isTaken(rowOffset + column)) {
+                    column++;
+                    continue;
+                }
+
+                int runStart = column;
+                while (column < columns && !seatMap.isTaken(rowOffset + column)) {
+                    column++;
+                }
+                if (column - runStart < count) {
+                    continue;
+                }
+
+                int start = Math.max(runStart, Math.min(idealStart, column - count));
+                long columnDistance = 2L * start + count - 1 - centreColumn2;
+                long score = rowScore + columnDistance * columnDistance;
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestIndex = rowOffset + start;
+                }
+            }
+        }
+
+        if (bestIndex < 0) {
+            return Optional.empty();
+        }
+        int[] seatIndices = new int[count];
+        for (int i = 0; i < count; i++) {
+            seatIndices[i] = bestIndex + i;
+        }
+        return Optional.of(seatIndices);
+    }
+
+}
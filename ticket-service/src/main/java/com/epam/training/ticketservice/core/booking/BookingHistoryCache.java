@@ -0,0 +1,232 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.pricing.ScreeningDeletedEvent;
+import com.epam.training.ticketservice.core.schedule.MovieLengthChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the booking history of each user in memory, keyed by username. A history is loaded from the
+ * database the first time it is read and is then kept up to date by appending every committed booking,
+ * so describing an account does not query the bookings again.
+ * The history is registered before the database is read, so a booking committed while the history is
+ * loading is appended to it even if the read does not see it yet; bookings both read and appended are
+ * kept once. Appending is amortized constant time and readers get a copy of the history.
+ * Only the most recently used histories are kept, and bookings made on other nodes are never appended,
+ * so a history is also loaded again once it has been loaded for longer than the time to live.
+ */
+@Component
+public class BookingHistoryCache {
+
+    /**
+     * The time a history is served after it was loaded, in milliseconds.
+     */
+    private final long ttlMillis;
+
+    /**
+     * The source of the current time in milliseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The loaded and loading booking histories, keyed by username, in least recently used order.
+     * The least recently used history is dropped once there are more than the maximum.
+     */
+    private final Map<String, History> histories;
+
+    /**
+     * Constructor to create the cache with the configured bounds.
+     *
+     * @param maxUsers  The number of users whose histories are kept at most.
+     * @param ttlMillis The time a history is served after it was loaded, in milliseconds.
+     */
+    @Autowired
+    public BookingHistoryCache(@Value("${ticket-service.booking.history-max-users:10000}") int maxUsers,
+                               @Value("${ticket-service.booking.history-ttl-millis:300000}") long ttlMillis) {
+        this(maxUsers, ttlMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor to create the cache with an explicit time source.
+     *
+     * @param maxUsers  The number of users whose histories are kept at most.
+     * @param ttlMillis The time a history is served after it was loaded, in milliseconds.
+     * @param clock     The source of the current time in milliseconds.
+     */
+    BookingHistoryCache(int maxUsers, long ttlMillis, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.histories = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, History> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    /**
+     * Returns the booking history of a user if it has been loaded and has not expired. An expired
+     * history is dropped, so the next load starts a new one.
+     *
+     * @param username The username of the user.
+     * @return The bookings of the user, or empty if the history is not loaded or has expired.
+     */
+    public Optional<List<BookingDto>> find(String username) {
+        History history = histories.get(username);
+        if (history == null) {
+            return Optional.empty();
+        }
+        if (history.isExpired(clock.getAsLong())) {
+            histories.remove(username, history);
+            return Optional.empty();
+        }
+        return history.snapshot();
+    }
+
+    /**
+     * Loads the booking history of a user from the database and stores it. Bookings appended from the
+     * start of the load are kept, without duplicating the ones the load returned as well.
+     *
+     * @param username The username of the user.
+     * @param loader   Reads the bookings of the user from the database.
+     * @return The stored booking history of the user.
+     */
+    public List<BookingDto> load(String username, Supplier<List<BookingDto>> loader) {
+        History history = histories.computeIfAbsent(username, key -> new History());
+        return history.load(loader.get(), clock.getAsLong() + ttlMillis);
+    }
+
+    /**
+     * Appends a committed booking to the history of a user. Histories which are neither loaded nor
+     * loading are left alone, as the booking will be part of their first load.
+     *
+     * @param username The username of the user.
+     * @param booking  The committed booking.
+     */
+    public void append(String username, BookingDto booking) {
+        History history = histories.get(username);
+        if (history != null) {
+            history.append(booking);
+        }
+    }
+
+    /**
+     * Drops every history, as any of them may contain bookings of the deleted screening.
+     *
+     * @param event The event describing the deleted screening.
+     */
+    @EventListener
+    public void onScreeningDeleted(ScreeningDeletedEvent event) {
+        histories.clear();
+    }
+
+    /**
+     * Drops every history, as the cached bookings embed the screened movie and its length.
+     *
+     * @param event The event describing the changed movie.
+     */
+    @EventListener
+    public void onMovieLengthChanged(MovieLengthChangedEvent event) {
+        histories.clear();
+    }
+
+    /**
+     * Returns the number of loaded and loading histories.
+     *
+     * @return The number of histories.
+     */
+    public int countHistories() {
+        return histories.size();
+    }
+
+    /**
+     * The booking history of a single user, in the order the bookings were loaded or appended.
+     */
+    private static final class History {
+
+        private final List<BookingDto> bookings = new ArrayList<>();
+
+        /**
+         * The ids of the bookings in the history, to keep each booking once.
+         */
+        private final Set<Long> ids = new HashSet<>();
+
+        /**
+         * Whether the bookings read from the database have been added.
+         */
+        private boolean loaded;
+
+        /**
+         * The time the loaded history expires at, in milliseconds.
+         */
+        private long expiresAt;
+
+        /**
+         * Returns whether the history has been loaded and has expired since.
+         *
+         * @param now The current time in milliseconds.
+         * @return Whether the history has expired.
+         */
+        private synchronized boolean isExpired(long now) {
+            return loaded && now >= expiresAt;
+        }
+
+        /**
+         * Returns a copy of the history if it has been loaded.
+         *
+         * @return The bookings, or empty while the history is loading.
+         */
+        private synchronized Optional<List<BookingDto>> snapshot() {
+            return loaded ? Optional.of(List.copyOf(bookings)) : Optional.empty();
+        }
+
+        /**
+         * Puts the bookings read from the database before the ones appended meanwhile.
+         *
+         * @param read      The bookings read from the database.
+         * @param expiresAt The time the loaded history expires at, in milliseconds.
+         * @return A copy of the loaded history.
+         */
+        private synchronized List<BookingDto> load(List<BookingDto> read, long expiresAt) {
+            List<BookingDto> appended = List.copyOf(bookings);
+            bookings.clear();
+            ids.clear();
+            read.forEach(this::add);
+            appended.forEach(this::add);
+            loaded = true;
+            this.expiresAt = expiresAt;
+            return List.copyOf(bookings);
+        }
+
+        /**
+         * Appends a booking unless the history already contains it.
+         *
+         * @param booking The booking to append.
+         */
+        private synchronized void append(BookingDto booking) {
+            add(booking);
+        }
+
+        private void add(BookingDto booking) {
+            if (booking.getId() == null || ids.add(booking.getId())) {
+                bookings.add(booking);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock-free reservation engine claiming every requested seat with compare-and-set on the
+ * screening's seat map. If a seat turns out to be taken, the seats already claimed by the
+ * same booking are released again, so a booking still gets all its seats or none.
+ * A concurrent booking may briefly observe such a rolled back seat as taken.
+ */
+@Component
+@ConditionalOnProperty(name = "ticket-service.booking.reservation-mode", havingValue = "cas")
+public class CasReservationEngine implements SeatReservationEngine {
+
+    @Override
+    public int reserve(Long screeningId, SeatMap seatMap, int[] seatIndices) {
+        for (int i = 0; i < seatIndices.length; i++) {
+            if (!seatMap.tryReserve(seatIndices[i])) {
+                for (int j = 0; j < i; j++) {
+                    seatMap.release(seatIndices[j]);
+                }
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void release(Long screeningId, SeatMap seatMap, int[] seatIndices) {
+        seatMap.release(seatIndices);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Screening;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Seats of a screening temporarily reserved for a user until they are confirmed
+ * as a booking or the hold expires.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeatHold {
+
+    /**
+     * The id of the hold.
+     */
+    private final long id;
+
+    /**
+     * The username of the user holding the seats.
+     */
+    private final String username;
+
+    /**
+     * The screening the seats belong to.
+     */
+    private final Screening screening;
+
+    /**
+     * The seat map the seats are reserved in.
+     */
+    private final SeatMap seatMap;
+
+    /**
+     * The bit indices of the held seats.
+     */
+    private final int[] seatIndices;
+
+    /**
+     * The time the hold expires at, in milliseconds.
+     */
+    private final long expiresAtMillis;
+
+}
@@ -0,0 +1,169 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the active seat holds. The seats of a hold stay reserved in the screening's seat map
+ * until the hold is claimed for a booking, or until it expires and the seats are released.
+ * Expiry is driven by a {@link TimingWheel} advanced on a fixed schedule.
+ */
+@Component
+public class SeatHoldRegistry {
+
+    /**
+     * The number of buckets of the expiry wheel.
+     */
+    private static final int WHEEL_SIZE = 512;
+
+    private final SeatReservationEngine reservationEngine;
+
+    /**
+     * The time the seats of a hold stay reserved, in milliseconds.
+     */
+    private final long ttlMillis;
+
+    /**
+     * The source of the current time in milliseconds.
+     */
+    private final LongSupplier clock;
+
+    private final TimingWheel wheel;
+
+    /**
+     * The active holds, keyed by hold id.
+     */
+    private final Map<Long, ActiveHold> holds = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Constructor to create the registry with the configured hold lifetime and wheel tick.
+     *
+     * @param reservationEngine The engine the held seats are released through.
+     * @param ttlMinutes        The time the seats of a hold stay reserved, in minutes.
+     * @param tickMillis        The length of an expiry wheel tick in milliseconds.
+     */
+    @Autowired
+    public SeatHoldRegistry(SeatReservationEngine reservationEngine,
+                            @Value("${ticket-service.booking.hold-ttl-minutes:10}") long ttlMinutes,
+                            @Value("${ticket-service.booking.hold-tick-millis:1000}") long tickMillis) {
+        this(reservationEngine, ttlMinutes * 60_000, tickMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor to create the registry with an explicit time source.
+     *
+     * @param reservationEngine The engine the held seats are released through.
+     * @param ttlMillis         The time the seats of a hold stay reserved, in milliseconds.
+     * @param tickMillis        The length of an expiry wheel tick in milliseconds.
+     * @param clock             The source of the current time in milliseconds.
+     */
+    SeatHoldRegistry(SeatReservationEngine reservationEngine, long ttlMillis, long tickMillis, LongSupplier clock) {
+        this.reservationEngine = reservationEngine;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.wheel = new TimingWheel(tickMillis, WHEEL_SIZE, clock.getAsLong());
+    }
+
+    /**
+     * Registers a hold over seats which have already been reserved in the screening's seat map.
+     *
+     * @param username    The username of the user holding the seats.
+     * @param screening   The screening the seats belong to.
+     * @param seatMap     The seat map the seats are reserved in.
+     * @param seatIndices The bit indices of the reserved seats.
+     * @return The created hold.
+     */
+    public SeatHold hold(String username, Screening screening, SeatMap seatMap, int[] seatIndices) {
+        long now = clock.getAsLong();
+        SeatHold hold = new SeatHold(nextId.getAndIncrement(), username, screening, seatMap, seatIndices,
+                now + ttlMillis);
+        ActiveHold activeHold = new ActiveHold(hold);
+        holds.put(hold.getId(), activeHold);
+        activeHold.timeout = wheel.schedule(() -> expire(activeHold), ttlMillis, now);
+        return hold;
+    }
+
+    /**
+     * Removes a hold of the given user so that its seats can be turned into a booking.
+     * The seats stay reserved and become the caller's responsibility.
+     *
+     * @param holdId   The id of the hold.
+     * @param username The username of the user claiming the hold.
+     * @return An {@code Optional} containing the claimed hold, or empty if it does not exist,
+     *         has expired or belongs to another user.
+     */
+    public Optional<SeatHold> claim(long holdId, String username) {
+        ActiveHold activeHold = holds.get(holdId);
+        if (activeHold == null || !activeHold.hold.getUsername().equals(username)
+                || !holds.remove(holdId, activeHold)) {
+            return Optional.empty();
+        }
+        TimingWheel.Timeout timeout = activeHold.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return Optional.of(activeHold.hold);
+    }
+
+    /**
+     * Returns the number of active holds.
+     *
+     * @return The number of active holds.
+     */
+    public int countHolds() {
+        return holds.size();
+    }
+
+    /**
+     * Releases the seats of every hold which has expired since the last call.
+     *
+     * @return The number of expired holds.
+     */
+    @Scheduled(fixedRateString = "${ticket-service.booking.hold-tick-millis:1000}")
+    public int expireHolds() {
+        return wheel.advance(clock.getAsLong());
+    }
+
+    /**
+     * Drops an expired hold and releases its seats, unless it has been claimed meanwhile.
+     *
+     * @param activeHold The expired hold.
+     */
+    private void expire(ActiveHold activeHold) {
+        SeatHold hold = activeHold.hold;
+        if (holds.remove(hold.getId(), activeHold)) {
+            reservationEngine.release(hold.getScreening().getId(), hold.getSeatMap(), hold.getSeatIndices());
+        }
+    }
+
+    /**
+     * A registered hold together with its expiry handle.
+     */
+    private static final class ActiveHold {
+
+        private final SeatHold hold;
+
+        /**
+         * The expiry handle, set right after the hold is registered. Claiming a hold before that
+         * only leaves a task behind which finds the hold gone.
+         */
+        private volatile TimingWheel.Timeout timeout;
+
+        private ActiveHold(SeatHold hold) {
+            this.hold = hold;
+        }
+
+    }
+
+}
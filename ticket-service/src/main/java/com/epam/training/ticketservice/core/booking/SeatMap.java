@@ -0,0 +1,195 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Seat;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Occupancy bitset of a single screening, holding one bit per seat of the room.
+ * A seat is stored at the bit given by its encoded form, see {@link Seat#encode(int)}.
+ * Single bits are updated with compare-and-set, so every method is safe to call concurrently;
+ * multi-seat atomicity is provided by the {@link SeatReservationEngine}.
+ */
+public class SeatMap {
+
+    /**
+     * The number of rows of the room the map was sized for.
+     */
+    @Getter
+    private final int rows;
+
+    /**
+     * The number of columns of the room the map was sized for.
+     */
+    @Getter
+    private final int columns;
+
+    /**
+     * The occupancy bits, 64 seats per word.
+     */
+    private final AtomicLongArray words;
+
+    /**
+     * Constructor to create an empty seat map for a room of the given size.
+     *
+     * @param rows    The number of rows in the room.
+     * @param columns The number of columns in the room.
+     */
+    public SeatMap(int rows, int columns) {
+        this.rows = Math.max(rows, 0);
+        this.columns = Math.max(columns, 0);
+        this.words = new AtomicLongArray((this.rows * this.columns + 63) >>> 6);
+    }
+
+    /**
+     * Checks whether this map was sized for a room with the given dimensions.
+     *
+     * @param rows    The number of rows in the room.
+     * @param columns The number of columns in the room.
+     * @return {@code true} if the dimensions match, otherwise {@code false}.
+     */
+    public boolean hasSize(int rows, int columns) {
+        return this.rows == rows && this.columns == columns;
+    }
+
+    /**
+     * Resolves a seat to its bit index.
+     *
+     * @param seat The seat.
+     * @return The bit index of the seat, or {@code -1} if the seat is outside the room.
+     */
+    public int indexOf(Seat seat) {
+        return seat.fits(rows, columns) ? seat.encode(columns) : -1;
+    }
+
+    /**
+     * Returns the number of seats the map holds.
+     *
+     * @return The number of seats, {@code rows * columns}.
+     */
+    public int capacity() {
+        return rows * columns;
+    }
+
+    /**
+     * Checks whether the seat at the given bit index is taken.
+     *
+     * @param index The bit index of the seat.
+     * @return {@code true} if the seat is taken, otherwise {@code false}.
+     */
+    public boolean isTaken(int index) {
+        return (words.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    /**
+     * Finds the first seat of the given list that is already taken.
+     *
+     * @param indices The bit indices of the seats to check.
+     * @return The position within {@code indices} of the first taken seat, or {@code -1} if all are free.
+     */
+    public int findTaken(int[] indices) {
+        for (int i = 0; i < indices.length; i++) {
+            if (isTaken(indices[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Marks the given seat as taken if it is still free.
+     *
+     * @param index The bit index of the seat to claim.
+     * @return {@code true} if the seat has been claimed by this call, {@code false} if it was already taken.
+     */
+    public boolean tryReserve(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long current = words.get(word);
+        while ((current & bit) == 0) {
+            if (words.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+            current = words.get(word);
+        }
+        return false;
+    }
+
+    /**
+     * Marks the given seat as taken.
+     *
+     * @param index The bit index of the seat to reserve.
+     */
+    public void reserve(int index) {
+        tryReserve(index);
+    }
+
+    /**
+     * Marks all the given seats as taken.
+     *
+     * @param indices The bit indices of the seats to reserve.
+     */
+    public void reserve(int[] indices) {
+        for (int index : indices) {
+            reserve(index);
+        }
+    }
+
+    /**
+     * Marks all the given seats as free.
+     *
+     * @param indices The bit indices of the seats to release.
+     */
+    public void release(int[] indices) {
+        for (int index : indices) {
+            release(index);
+        }
+    }
+
+    /**
+     * Marks the given seat as free.
+     *
+     * @param index The bit index of the seat to release.
+     */
+    public void release(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long current = words.get(word);
+        while ((current & bit) != 0) {
+            if (words.compareAndSet(word, current, current & ~bit)) {
+                return;
+            }
+            current = words.get(word);
+        }
+    }
+
+    /**
+     * Counts the taken seats.
+     *
+     * @return The number of taken seats.
+     */
+    public int countTaken() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    /**
+     * Copies the occupancy bits, 64 seats per word, with the seat at bit index {@code i}
+     * stored in bit {@code i % 64} of word {@code i / 64}. Each word is read atomically,
+     * but seats reserved while the copy is taken may or may not be included.
+     *
+     * @return A copy of the occupancy bits.
+     */
+    public long[] snapshot() {
+        long[] copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i);
+        }
+        return copy;
+    }
+
+}
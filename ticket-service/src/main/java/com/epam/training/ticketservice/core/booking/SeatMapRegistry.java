@@ -0,0 +1,87 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.pricing.ScreeningDeletedEvent;
+import com.epam.training.ticketservice.core.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the seat occupancy of every screening in memory. A screening's map is
+ * loaded lazily from the booked seats on first use and is expected to be updated
+ * by the booking code on every successful save.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatMapRegistry {
+
+    private final BookingRepository bookingRepository;
+
+    /**
+     * The loaded seat maps, keyed by screening id.
+     */
+    private final Map<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the seat map of a screening, loading it from the booked seats if it is not cached yet
+     * or if the room has been resized since it was loaded.
+     *
+     * @param screening The screening whose seat map is requested.
+     * @return The seat map of the screening.
+     */
+    public SeatMap getSeatMap(Screening screening) {
+        Room room = screening.getRoom();
+        SeatMap seatMap = seatMaps.get(screening.getId());
+        if (seatMap != null && seatMap.hasSize(room.getRows(), room.getColumns())) {
+            return seatMap;
+        }
+
+        return seatMaps.compute(screening.getId(), (id, existing) ->
+                existing != null && existing.hasSize(room.getRows(), room.getColumns())
+                        ? existing
+                        : load(screening));
+    }
+
+    /**
+     * Drops the cached seat map of a screening.
+     *
+     * @param screeningId The id of the screening.
+     */
+    public void evict(Long screeningId) {
+        seatMaps.remove(screeningId);
+    }
+
+    /**
+     * Drops the seat map of a deleted screening.
+     *
+     * @param event The event describing the deleted screening.
+     */
+    @EventListener
+    public void onScreeningDeleted(ScreeningDeletedEvent event) {
+        evict(event.getScreeningId());
+    }
+
+    /**
+     * Builds the seat map of a screening from its encoded booked seats with a single query.
+     * Seats which no longer fit the room are ignored.
+     *
+     * @param screening The screening to load.
+     * @return The loaded seat map.
+     */
+    private SeatMap load(Screening screening) {
+        Room room = screening.getRoom();
+        SeatMap seatMap = new SeatMap(room.getRows(), room.getColumns());
+        for (int index : bookingRepository.findBookedSeatsByScreening(screening)) {
+            if (index >= 0 && index < seatMap.capacity()) {
+                seatMap.reserve(index);
+            }
+        }
+        return seatMap;
+    }
+
+}
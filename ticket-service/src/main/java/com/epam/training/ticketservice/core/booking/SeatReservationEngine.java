@@ -0,0 +1,29 @@
+package com.epam.training.ticketservice.core.booking;
+
+/**
+ * Reserves seats in a screening's seat map so that concurrent bookings can never
+ * take the same seat twice.
+ */
+public interface SeatReservationEngine {
+
+    /**
+     * Atomically reserves all the given seats of a screening, or none of them.
+     *
+     * @param screeningId The id of the screening.
+     * @param seatMap     The seat map of the screening.
+     * @param seatIndices The bit indices of the seats to reserve.
+     * @return The position within {@code seatIndices} of a seat that is already taken,
+     *         or {@code -1} if all seats have been reserved.
+     */
+    int reserve(Long screeningId, SeatMap seatMap, int[] seatIndices);
+
+    /**
+     * Releases previously reserved seats of a screening.
+     *
+     * @param screeningId The id of the screening.
+     * @param seatMap     The seat map of the screening.
+     * @param seatIndices The bit indices of the seats to release.
+     */
+    void release(Long screeningId, SeatMap seatMap, int[] seatIndices);
+
+}
@@ -0,0 +1,76 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reservation engine guarding each screening's seat map with a lock picked by screening id
+ * from a fixed array of stripes. Bookings of one screening are serialized, while bookings
+ * of different screenings only share a lock if their ids fall into the same stripe.
+ * This is the default engine; the lock-free {@link CasReservationEngine} is used instead
+ * if {@code ticket-service.booking.reservation-mode} is set to {@code cas}.
+ */
+@Component
+@ConditionalOnProperty(name = "ticket-service.booking.reservation-mode", havingValue = "locking",
+        matchIfMissing = true)
+public class StripedLockReservationEngine implements SeatReservationEngine {
+
+    /**
+     * The lock stripes. The length is always a power of two.
+     */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Constructor to create the engine with the configured number of stripes.
+     *
+     * @param stripeCount The requested number of stripes, rounded up to the next power of two.
+     */
+    public StripedLockReservationEngine(@Value("${ticket-service.booking.lock-stripes:256}") int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(stripeCount - 1, 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public int reserve(Long screeningId, SeatMap seatMap, int[] seatIndices) {
+        ReentrantLock lock = stripes[stripeFor(screeningId)];
+        lock.lock();
+        try {
+            int taken = seatMap.findTaken(seatIndices);
+            if (taken < 0) {
+                seatMap.reserve(seatIndices);
+            }
+            return taken;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void release(Long screeningId, SeatMap seatMap, int[] seatIndices) {
+        ReentrantLock lock = stripes[stripeFor(screeningId)];
+        lock.lock();
+        try {
+            seatMap.release(seatIndices);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Picks the stripe of a screening. Sequential ids are mapped to distinct stripes.
+     *
+     * @param screeningId The id of the screening.
+     * @return The index of the stripe guarding the screening.
+     */
+    int stripeFor(Long screeningId) {
+        long id = screeningId == null ? 0 : screeningId;
+        return (int) (id ^ (id >>> 32)) & (stripes.length - 1);
+    }
+
+}
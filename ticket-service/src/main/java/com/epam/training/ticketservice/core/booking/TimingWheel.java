@@ -0,0 +1,176 @@
+package com.epam.training.ticketservice.core.booking;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hashed timing wheel running delayed tasks with O(1) scheduling and cancellation.
+ * Time is split into ticks of a fixed length, and every task is put into the bucket of
+ * its deadline tick, together with the number of full wheel rotations it still has to wait.
+ * Tasks may be scheduled and cancelled from any thread, while {@link #advance(long)} is
+ * expected to be driven periodically by a single thread and runs the expired tasks on it.
+ */
+public class TimingWheel {
+
+    /**
+     * The length of a tick in milliseconds.
+     */
+    private final long tickMillis;
+
+    /**
+     * The time the wheel was started at, in milliseconds.
+     */
+    private final long startMillis;
+
+    /**
+     * The buckets of the wheel. The length is always a power of two.
+     */
+    private final Queue<Timeout>[] buckets;
+
+    /**
+     * Newly scheduled tasks which have not been put into their bucket yet.
+     */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The next tick to be processed.
+     */
+    private long currentTick;
+
+    /**
+     * Constructor to create a wheel with the given tick length and number of buckets.
+     *
+     * @param tickMillis  The length of a tick in milliseconds.
+     * @param wheelSize   The requested number of buckets, rounded up to the next power of two.
+     * @param startMillis The current time in milliseconds.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Schedules a task to run once the given delay has elapsed. The task runs on the first
+     * {@link #advance(long)} call that reaches the end of the tick containing its deadline.
+     *
+     * @param task        The task to run.
+     * @param delayMillis The delay in milliseconds.
+     * @param nowMillis   The current time in milliseconds.
+     * @return The handle which can be used to cancel the task.
+     */
+    public Timeout schedule(Runnable task, long delayMillis, long nowMillis) {
+        long elapsed = Math.max(nowMillis - startMillis, 0) + Math.max(delayMillis, 0);
+        Timeout timeout = new Timeout(task, (elapsed + tickMillis - 1) / tickMillis);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Processes every tick up to the given time, running the tasks whose deadline has passed.
+     *
+     * @param nowMillis The current time in milliseconds.
+     * @return The number of tasks that have been run.
+     */
+    public synchronized int advance(long nowMillis) {
+        long targetTick = (nowMillis - startMillis) / tickMillis;
+        int expired = 0;
+        while (currentTick <= targetTick) {
+            transferPending();
+            expired += expireBucket(buckets[(int) (currentTick & (buckets.length - 1))]);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    /**
+     * Puts the newly scheduled tasks into the bucket of their deadline tick.
+     * Tasks whose deadline has already passed are put into the current bucket.
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            timeout.rounds = (tick - currentTick) / buckets.length;
+            buckets[(int) (tick & (buckets.length - 1))].add(timeout);
+        }
+    }
+
+    /**
+     * Runs the due tasks of a bucket and counts down the rotations of the others.
+     * Cancelled tasks are dropped.
+     *
+     * @param bucket The bucket of the current tick.
+     * @return The number of tasks that have been run.
+     */
+    private int expireBucket(Queue<Timeout> bucket) {
+        int expired = 0;
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.rounds > 0) {
+                timeout.rounds--;
+            } else {
+                iterator.remove();
+                timeout.task.run();
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+
+        private final long deadlineTick;
+
+        /**
+         * The number of wheel rotations left before the task is due, only accessed by the advancing thread.
+         */
+        private long rounds;
+
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels the task. The entry itself is dropped from the wheel lazily when its bucket is next processed.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Checks whether the task has been cancelled.
+         *
+         * @return {@code true} if the task has been cancelled, otherwise {@code false}.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+}
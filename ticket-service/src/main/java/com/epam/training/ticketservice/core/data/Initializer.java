@@ -1,9 +1,13 @@
 package com.epam.training.ticketservice.core.data;
 
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.model.enums.Role;
+import com.epam.training.ticketservice.core.repository.PricingConfigurationRepository;
 import com.epam.training.ticketservice.core.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
@@ -17,17 +21,40 @@ public class Initializer {
 
     private final UserRepository userRepository;
 
+    private final PricingConfigurationRepository pricingConfigurationRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
     /**
      * Initializes the system by checking if an admin user exists.
      * If no admin user is found, it creates one with default credentials:
      * username: "admin", password: "admin", role: {@code Role.ADMIN}.
+     * It also creates the pricing configuration row with the default base price if there is none,
+     * so changing the base price only ever updates it.
      */
     @PostConstruct
     public void init() {
         if (!userRepository.existsByUsername("admin")) {
-            User admin = new User("admin", "admin", Role.ADMIN);
+            User admin = new User("admin", passwordEncoder.encode("admin"), Role.ADMIN);
             userRepository.save(admin);
         }
+        seedPricingConfiguration();
+    }
+
+    /**
+     * Creates the pricing configuration row unless it exists. Another node starting at the same time
+     * may create it first, in which case its row is kept.
+     */
+    private void seedPricingConfiguration() {
+        if (pricingConfigurationRepository.existsById(PricingConfiguration.ID)) {
+            return;
+        }
+        try {
+            pricingConfigurationRepository.saveAndFlush(
+                    new PricingConfiguration(PricingConfiguration.DEFAULT_BASE_PRICE));
+        } catch (DataIntegrityViolationException e) {
+            // Created by another node meanwhile.
+        }
     }
 
 }
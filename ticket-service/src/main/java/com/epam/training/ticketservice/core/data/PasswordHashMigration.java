@@ -0,0 +1,74 @@
+package com.epam.training.ticketservice.core.data;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Hashes the passwords stored in plain text by earlier versions. Sign in only accepts bcrypt hashes,
+ * so without this every account created before passwords were hashed, including the default admin,
+ * could no longer sign in. Passwords which already are bcrypt hashes are left alone, so once every
+ * password is hashed the migration does nothing. It runs once the application is ready, after the
+ * schema has been created or updated, and does nothing if there is no users table yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHashMigration {
+
+    /**
+     * The format of a bcrypt hash: the version, the two-digit cost and the salt and digest.
+     */
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Replaces every stored password which is not a bcrypt hash with the hash of it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!hasPasswordColumn()) {
+            return;
+        }
+
+        List<Object[]> hashedPasswords = new ArrayList<>();
+        jdbcTemplate.query("select id, password from users", (ResultSet rs) -> {
+            long id = rs.getLong(1);
+            String stored = rs.getString(2);
+            if (stored != null && !BCRYPT_HASH.matcher(stored).matches()) {
+                hashedPasswords.add(new Object[] {passwordEncoder.encode(stored), id, stored});
+            }
+        });
+
+        jdbcTemplate.batchUpdate("update users set password = ? where id = ? and password = ?", hashedPasswords);
+    }
+
+    /**
+     * Looks up whether the users table and its password column exist.
+     *
+     * @return Whether the passwords can be read.
+     */
+    private boolean hasPasswordColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upperCase ? "USERS" : "users", upperCase ? "PASSWORD" : "password")) {
+                return columns.next();
+            }
+        }));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.data;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claims the seats of the bookings saved before seats were claimed, so the unique key on the claims
+ * covers them as well. It runs once the application is ready, after the schema has been updated and
+ * the seats have been encoded. Seats which were already sold twice are claimed by their earliest
+ * booking only. Once every booked seat is claimed the migration inserts nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatClaimMigration {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims every booked seat which is not claimed yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        jdbcTemplate.update("insert into seat_claims (booking_id, screening_id, seat)"
+                + " select min(bs.booking_id), b.screening_id, bs.seat from booked_seats bs"
+                + " join bookings b on b.id = bs.booking_id"
+                + " where not exists (select 1 from seat_claims c"
+                + " where c.screening_id = b.screening_id and c.seat = bs.seat)"
+                + " group by b.screening_id, bs.seat");
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.epam.training.ticketservice.core.data;
+
+import com.epam.training.ticketservice.core.model.Seat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Converts booked seats stored as {@code "row,column"} strings by earlier versions into encoded
+ * seat numbers. Schema updates never change the type of an existing column, so a database created
+ * before seats were encoded keeps a character {@code booked_seats.seat} column until this runs.
+ * Once the column is numeric the migration does nothing, and a conversion interrupted halfway
+ * can simply be run again.
+ */
+@Component
+@RequiredArgsConstructor
+public class SeatStorageMigration {
+
+    private static final Set<Integer> CHARACTER_TYPES =
+            Set.of(Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Encodes every stored {@code "row,column"} seat against its room's column count and changes the
+     * column to an integer one. Seats which cannot be parsed or do not fit their room are dropped.
+     */
+    @PostConstruct
+    public void migrate() {
+        Optional<String> databaseProduct = findCharacterSeatColumn();
+        if (databaseProduct.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> encodedSeats = new ArrayList<>();
+        List<Object[]> invalidSeats = new ArrayList<>();
+        jdbcTemplate.query("select bs.booking_id, bs.seat, r.row_count, r.columns from booked_seats bs"
+                + " join bookings b on b.id = bs.booking_id"
+                + " join screenings s on s.id = b.screening_id"
+                + " join rooms r on r.id = s.room_id", (ResultSet rs) -> {
+                    long bookingId = rs.getLong(1);
+                    String stored = rs.getString(2);
+                    int rows = rs.getInt(3);
+                    int columns = rs.getInt(4);
+                    if (stored.chars().allMatch(Character::isDigit)) {
+                        return;
+                    }
+                    Optional<Seat> seat = Seat.parse(stored).filter(parsed -> parsed.fits(rows, columns));
+                    if (seat.isPresent()) {
+                        encodedSeats.add(new Object[] {String.valueOf(seat.get().encode(columns)), bookingId, stored});
+                    } else {
+                        invalidSeats.add(new Object[] {bookingId, stored});
+                    }
+                });
+
+        jdbcTemplate.batchUpdate("update booked_seats set seat = ? where booking_id = ? and seat = ?", encodedSeats);
+        jdbcTemplate.batchUpdate("delete from booked_seats where booking_id = ? and seat = ?", invalidSeats);
+        jdbcTemplate.execute(databaseProduct.get().equals("MySQL")
+                ? "alter table booked_seats modify seat int not null"
+                : "alter table booked_seats alter column seat int not null");
+    }
+
+    /**
+     * Looks up whether the booked seats are still stored in a character column.
+     *
+     * @return The name of the database product if the column is a character column,
+     *         or empty if it is numeric or does not exist yet.
+     */
+    private Optional<String> findCharacterSeatColumn() {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+                    upperCase ? "BOOKED_SEATS" : "booked_seats", upperCase ? "SEAT" : "seat")) {
+                return columns.next() && CHARACTER_TYPES.contains(columns.getInt("DATA_TYPE"))
+                        ? Optional.of(metaData.getDatabaseProductName())
+                        : Optional.empty();
+            }
+        });
+    }
+
+}
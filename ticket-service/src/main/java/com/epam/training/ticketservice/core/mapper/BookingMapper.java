@@ -0,0 +1,54 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Seat;
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps {@link Booking} entities to {@link BookingDto} objects.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingMapper {
+
+    private final UserMapper userMapper;
+
+    private final ScreeningMapper screeningMapper;
+
+    /**
+     * Maps a booking to its DTO, along with its user and screening, decoding the stored seats
+     * back to {@code "row,column"} form.
+     *
+     * @param booking The booking to map, may be null.
+     * @return The {@code BookingDto} of the booking, or null if the booking is null.
+     */
+    public BookingDto toDto(Booking booking) {
+        if (booking == null) {
+            return null;
+        }
+        return new BookingDto(booking.getId(), userMapper.toDto(booking.getUser()),
+                screeningMapper.toDto(booking.getScreening()), decodeSeats(booking),
+                booking.getPrice(), booking.getBookingTime());
+    }
+
+    /**
+     * Decodes the stored seats of a booking against the columns of its room.
+     *
+     * @param booking The booking.
+     * @return The seats of the booking in {@code "row,column"} form.
+     */
+    private static List<String> decodeSeats(Booking booking) {
+        int columns = booking.getScreening().getRoom().getColumns();
+        List<String> seats = new ArrayList<>(booking.getSeats().size());
+        for (int seat : booking.getSeats()) {
+            seats.add(Seat.decode(seat, columns).toString());
+        }
+        return seats;
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.dto.MovieDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link Movie} entities to {@link MovieDto} objects.
+ */
+@Component
+public class MovieMapper {
+
+    /**
+     * Maps a movie to its DTO. The lazily loaded pricing components are not mapped.
+     *
+     * @param movie The movie to map, may be null.
+     * @return The {@code MovieDto} of the movie, or null if the movie is null.
+     */
+    public MovieDto toDto(Movie movie) {
+        if (movie == null) {
+            return null;
+        }
+        return new MovieDto(movie.getId(), movie.getTitle(), movie.getGenre(), movie.getLength(), null);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link Room} entities to {@link RoomDto} objects.
+ */
+@Component
+public class RoomMapper {
+
+    /**
+     * Maps a room to its DTO. The lazily loaded pricing components are not mapped.
+     *
+     * @param room The room to map, may be null.
+     * @return The {@code RoomDto} of the room, or null if the room is null.
+     */
+    public RoomDto toDto(Room room) {
+        if (room == null) {
+            return null;
+        }
+        return new RoomDto(room.getId(), room.getName(), room.getRows(), room.getColumns(), room.getSeats(), null);
+    }
+
+}
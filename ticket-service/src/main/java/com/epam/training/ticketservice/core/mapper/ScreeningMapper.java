@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps {@link Screening} entities to {@link ScreeningDto} objects.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScreeningMapper {
+
+    private final MovieMapper movieMapper;
+
+    private final RoomMapper roomMapper;
+
+    /**
+     * Maps a screening to its DTO, along with its movie and room. The lazily loaded pricing
+     * components of the screening, its movie and its room are not mapped.
+     *
+     * @param screening The screening to map, may be null.
+     * @return The {@code ScreeningDto} of the screening, or null if the screening is null.
+     */
+    public ScreeningDto toDto(Screening screening) {
+        if (screening == null) {
+            return null;
+        }
+        return new ScreeningDto(screening.getId(), movieMapper.toDto(screening.getMovie()),
+                roomMapper.toDto(screening.getRoom()), screening.getStartTime(), null);
+    }
+
+}
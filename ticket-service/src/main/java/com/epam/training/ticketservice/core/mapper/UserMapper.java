@@ -0,0 +1,45 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between {@link User} entities and {@link UserDto} objects.
+ */
+@Component
+public class UserMapper {
+
+    /**
+     * Maps a user to its DTO.
+     *
+     * @param user The user to map, may be null.
+     * @return The {@code UserDto} of the user, or null if the user is null.
+     */
+    public UserDto toDto(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new UserDto(user.getId(), user.getUsername(), user.getPassword(),
+                user.getRole() == null ? null : user.getRole().name());
+    }
+
+    /**
+     * Maps a user DTO back to a detached entity, which can be used to refer to the user in queries
+     * and new bookings.
+     *
+     * @param userDto The DTO to map, may be null.
+     * @return The {@code User} of the DTO, or null if the DTO is null.
+     */
+    public User toEntity(UserDto userDto) {
+        if (userDto == null) {
+            return null;
+        }
+        User user = new User(userDto.getUsername(), userDto.getPassword(),
+                userDto.getRole() == null ? null : Role.valueOf(userDto.getRole()));
+        user.setId(userDto.getId());
+        return user;
+    }
+
+}
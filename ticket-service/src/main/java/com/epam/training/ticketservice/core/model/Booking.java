@@ -2,11 +2,14 @@ package com.epam.training.ticketservice.core.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.GeneratedValue;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
@@ -14,19 +17,41 @@ import javax.persistence.ElementCollection;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.FetchType;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
+import javax.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Represents a booking made by a user for a specific screening.
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings",
+        indexes = @Index(name = "idx_bookings_user_booking_time", columnList = "user_id, booking_time"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@EqualsAndHashCode(exclude = "seatClaims")
+@ToString(exclude = "seatClaims")
+@NamedEntityGraph(name = Booking.WITH_SCREENING, attributeNodes = {
+    @NamedAttributeNode("user"),
+    @NamedAttributeNode(value = "screening", subgraph = "screening"),
+    @NamedAttributeNode("seats")
+}, subgraphs = @NamedSubgraph(name = "screening", attributeNodes = {
+    @NamedAttributeNode("movie"),
+    @NamedAttributeNode("room")
+}))
 public class Booking {
 
+    /**
+     * Fetch plan loading a booking with its user, its seats and its screening's movie and room,
+     * used to list bookings.
+     */
+    public static final String WITH_SCREENING = "Booking.withScreening";
+
     /**
      * The unique identifier for the booking.
      */
@@ -49,12 +74,24 @@ public class Booking {
     private Screening screening;
 
     /**
-     * The list of seats booked for the screening.
+     * The list of seats booked for the screening, in their encoded form.
+     *
+     * @see Seat#encode(int)
      */
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "booked_seats", joinColumns = @JoinColumn(name = "booking_id"))
-    @Column(name = "seat")
-    private List<String> seats;
+    @Column(name = "seat", nullable = false)
+    private List<Integer> seats;
+
+    /**
+     * The claims on the booked seats, which let the database refuse a seat booked twice for a screening.
+     * They are only written, never read.
+     */
+    @ElementCollection
+    @CollectionTable(name = "seat_claims", joinColumns = @JoinColumn(name = "booking_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_seat_claims_screening_seat",
+                    columnNames = {"screening_id", "seat"}))
+    private List<SeatClaim> seatClaims;
 
     /**
      * The total price for the booking.
@@ -73,14 +110,17 @@ public class Booking {
      *
      * @param user         The user who made the booking.
      * @param screening    The screening for which the booking was made.
-     * @param seats        The list of seats booked.
+     * @param seats        The list of encoded seats booked.
      * @param price        The total price of the booking.
      * @param bookingTime  The time when the booking was made.
      */
-    public Booking(User user, Screening screening, List<String> seats, int price, LocalDateTime bookingTime) {
+    public Booking(User user, Screening screening, List<Integer> seats, int price, LocalDateTime bookingTime) {
         this.user = user;
         this.screening = screening;
         this.seats = seats;
+        this.seatClaims = seats.stream()
+                .map(seat -> new SeatClaim(screening.getId(), seat))
+                .collect(Collectors.toList());
         this.price = price;
         this.bookingTime = bookingTime;
     }
@@ -1,8 +1,11 @@
 package com.epam.training.ticketservice.core.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -13,6 +16,8 @@ import javax.persistence.ManyToMany;
 import javax.persistence.JoinTable;
 import javax.persistence.JoinColumn;
 import javax.persistence.FetchType;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -24,8 +29,16 @@ import java.util.Set;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@EqualsAndHashCode(exclude = "pricingComponents")
+@ToString(exclude = "pricingComponents")
+@NamedEntityGraph(name = Movie.WITH_PRICING_COMPONENTS, attributeNodes = @NamedAttributeNode("pricingComponents"))
 public class Movie {
 
+    /**
+     * Fetch plan loading a movie with its pricing components, used to attach a component to it.
+     */
+    public static final String WITH_PRICING_COMPONENTS = "Movie.withPricingComponents";
+
     /**
      * The unique identifier for the movie.
      */
@@ -53,9 +66,11 @@ public class Movie {
 
     /**
      * The set of pricing components associated with the movie.
-     * This is used to define the movie's pricing rules.
+     * This is used to define the movie's pricing rules. Loaded only when accessed or fetched
+     * through {@link #WITH_PRICING_COMPONENTS}, and not part of the movie's DTO.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "movie_pricing",
             joinColumns = @JoinColumn(name = "movie_id"),
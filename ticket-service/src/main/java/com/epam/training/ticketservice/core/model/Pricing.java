@@ -1,9 +1,12 @@
 package com.epam.training.ticketservice.core.model;
 
+import com.epam.training.ticketservice.core.model.enums.PricingType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -12,11 +15,17 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Column;
 import javax.persistence.ManyToMany;
 import javax.persistence.FetchType;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
 import java.util.Set;
 
 /**
  * Represents a pricing component that can be associated
- * with movies, rooms, and screenings.
+ * with movies, rooms, and screenings. A component may be restricted
+ * to screenings starting at certain times or on certain days,
+ * and to seats in certain rows.
  */
 @Entity
 @Table(name = "pricings")
@@ -24,6 +33,7 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = {"movies", "rooms", "screenings"})
+@ToString(exclude = {"movies", "rooms", "screenings"})
 public class Pricing {
 
     /**
@@ -46,21 +56,65 @@ public class Pricing {
     private int amount;
 
     /**
-     * The movies that use this pricing component.
+     * How the amount modifies the price of a seat. Components created before rules existed
+     * have no type and are treated as {@code PricingType.FIXED}.
      */
-    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.EAGER)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private PricingType type = PricingType.FIXED;
+
+    /**
+     * The earliest start time of day of the screenings the component applies to, inclusive.
+     */
+    @Column(name = "from_time")
+    private LocalTime fromTime;
+
+    /**
+     * The latest start time of day of the screenings the component applies to, exclusive.
+     * If it is before {@code fromTime}, the window spans midnight.
+     */
+    @Column(name = "to_time")
+    private LocalTime toTime;
+
+    /**
+     * The day of the week of the screenings the component applies to.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week")
+    private DayOfWeek dayOfWeek;
+
+    /**
+     * The first row of the seats the component applies to, inclusive.
+     */
+    @Column(name = "min_row")
+    private Integer minRow;
+
+    /**
+     * The last row of the seats the component applies to, inclusive.
+     */
+    @Column(name = "max_row")
+    private Integer maxRow;
+
+    /**
+     * The movies that use this pricing component. Loaded only when accessed, so that loading a
+     * component does not pull in everything it is attached to.
+     */
+    @JsonIgnore
+    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.LAZY)
     private Set<Movie> movies;
 
     /**
      * The rooms that use this pricing component.
      */
-    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.LAZY)
     private Set<Room> rooms;
 
     /**
      * The screenings that use this pricing component.
      */
-    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToMany(mappedBy = "pricingComponents", fetch = FetchType.LAZY)
     private Set<Screening> screenings;
 
     /**
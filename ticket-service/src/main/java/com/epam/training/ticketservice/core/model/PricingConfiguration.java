@@ -0,0 +1,63 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+/**
+ * Represents the system-wide pricing settings. There is a single row, and its version
+ * is incremented on every change so that each node can detect a stale local copy.
+ */
+@Entity
+@Table(name = "pricing_configuration")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PricingConfiguration {
+
+    /**
+     * The id of the single configuration row.
+     */
+    public static final long ID = 1L;
+
+    /**
+     * The base price of a seat until it is changed for the first time.
+     */
+    public static final int DEFAULT_BASE_PRICE = 1500;
+
+    /**
+     * The identifier of the configuration, always {@link #ID}.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * The base price of a seat, before pricing components are added.
+     */
+    @Column(name = "base_price", nullable = false)
+    private int basePrice;
+
+    /**
+     * The version of the configuration, incremented on every change.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Constructor to create the configuration row with the given base price.
+     *
+     * @param basePrice The base price of a seat.
+     */
+    public PricingConfiguration(int basePrice) {
+        this.id = ID;
+        this.basePrice = basePrice;
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.epam.training.ticketservice.core.model;
 
 import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -13,6 +16,8 @@ import javax.persistence.ManyToMany;
 import javax.persistence.JoinTable;
 import javax.persistence.JoinColumn;
 import javax.persistence.FetchType;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import javax.persistence.Transient;
 import javax.persistence.PostLoad;
 import javax.persistence.PostPersist;
@@ -28,8 +33,16 @@ import java.util.Set;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@EqualsAndHashCode(exclude = "pricingComponents")
+@ToString(exclude = "pricingComponents")
+@NamedEntityGraph(name = Room.WITH_PRICING_COMPONENTS, attributeNodes = @NamedAttributeNode("pricingComponents"))
 public class Room {
 
+    /**
+     * Fetch plan loading a room with its pricing components, used to attach a component to it.
+     */
+    public static final String WITH_PRICING_COMPONENTS = "Room.withPricingComponents";
+
     /**
      * The unique identifier for the room.
      */
@@ -64,9 +77,11 @@ public class Room {
     private int seats;
 
     /**
-     * The pricing components associated with this room.
+     * The pricing components associated with this room. Loaded only when accessed or fetched
+     * through {@link #WITH_PRICING_COMPONENTS}, and not part of the room's DTO.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "room_pricing",
             joinColumns = @JoinColumn(name = "room_id"),
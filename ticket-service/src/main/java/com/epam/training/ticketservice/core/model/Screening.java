@@ -1,8 +1,11 @@
 package com.epam.training.ticketservice.core.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -14,6 +17,9 @@ import javax.persistence.ManyToMany;
 import javax.persistence.JoinTable;
 import javax.persistence.JoinColumn;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
 import java.time.LocalDateTime;
 import java.util.Set;
 
@@ -22,12 +28,34 @@ import java.util.Set;
  * room at a scheduled time.
  */
 @Entity
-@Table(name = "screenings")
+@Table(name = "screenings",
+        indexes = @Index(name = "idx_screenings_room_start_time", columnList = "room_id, start_time"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@EqualsAndHashCode(exclude = "pricingComponents")
+@ToString(exclude = "pricingComponents")
+@NamedEntityGraph(name = Screening.WITH_MOVIE_AND_ROOM, attributeNodes = {
+    @NamedAttributeNode("movie"),
+    @NamedAttributeNode("room")
+})
+@NamedEntityGraph(name = Screening.WITH_PRICING_COMPONENTS, attributeNodes = {
+    @NamedAttributeNode("movie"),
+    @NamedAttributeNode("room"),
+    @NamedAttributeNode("pricingComponents")
+})
 public class Screening {
 
+    /**
+     * Fetch plan loading a screening with its movie and room, used to list, schedule, price and book screenings.
+     */
+    public static final String WITH_MOVIE_AND_ROOM = "Screening.withMovieAndRoom";
+
+    /**
+     * Fetch plan additionally loading the pricing components attached to the screening itself.
+     */
+    public static final String WITH_PRICING_COMPONENTS = "Screening.withPricingComponents";
+
     /**
      * The unique identifier for the screening.
      */
@@ -56,9 +84,11 @@ public class Screening {
     private LocalDateTime startTime;
 
     /**
-     * The pricing components associated with the screening.
+     * The pricing components associated with the screening. Loaded only when accessed or fetched
+     * through {@link #WITH_PRICING_COMPONENTS}, and not part of the screening's DTO.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @JsonIgnore
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "screening_pricing",
             joinColumns = @JoinColumn(name = "screening_id"),
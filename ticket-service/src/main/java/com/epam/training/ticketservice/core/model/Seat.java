@@ -0,0 +1,82 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.Value;
+
+import java.util.Optional;
+
+/**
+ * Represents a seat of a room, identified by its 1-based row and column.
+ * Seats are persisted in a compact int form, see {@link #encode(int)}.
+ */
+@Value
+public class Seat {
+
+    /**
+     * The 1-based row of the seat.
+     */
+    int row;
+
+    /**
+     * The 1-based column of the seat.
+     */
+    int column;
+
+    /**
+     * Parses a seat given in {@code "row,column"} form.
+     *
+     * @param seat The seat identifier.
+     * @return An {@code Optional} containing the parsed seat, or empty if the identifier is malformed.
+     */
+    public static Optional<Seat> parse(String seat) {
+        int comma = seat.indexOf(',');
+        if (comma < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Seat(Integer.parseInt(seat.substring(0, comma).trim()),
+                    Integer.parseInt(seat.substring(comma + 1).trim())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Restores a seat from its encoded form.
+     *
+     * @param index   The encoded seat.
+     * @param columns The number of columns of the room the seat was encoded for.
+     * @return The decoded seat.
+     */
+    public static Seat decode(int index, int columns) {
+        return new Seat(index / columns + 1, index % columns + 1);
+    }
+
+    /**
+     * Checks whether the seat exists in a room with the given dimensions.
+     *
+     * @param rows    The number of rows in the room.
+     * @param columns The number of columns in the room.
+     * @return {@code true} if the seat is inside the room, otherwise {@code false}.
+     */
+    public boolean fits(int rows, int columns) {
+        return row >= 1 && row <= rows && column >= 1 && column <= columns;
+    }
+
+    /**
+     * Encodes the seat as {@code (row - 1) * columns + (column - 1)}, which is also
+     * its bit index in a screening's seat map.
+     *
+     * @param columns The number of columns in the room.
+     * @return The encoded seat.
+     */
+    public int encode(int columns) {
+        return (row - 1) * columns + (column - 1);
+    }
+
+    @Override
+    public String toString() {
+        return row + "," + column;
+    }
+
+}
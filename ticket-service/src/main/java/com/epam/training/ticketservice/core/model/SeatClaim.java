@@ -0,0 +1,34 @@
+package com.epam.training.ticketservice.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * Claims a seat of a screening for a booking. Claims are stored with a unique key on the screening and
+ * the seat, so the database refuses a seat sold twice even if the nodes' in-memory seat maps disagree.
+ */
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatClaim {
+
+    /**
+     * The id of the screening the seat is claimed in.
+     */
+    @Column(name = "screening_id", nullable = false)
+    private Long screeningId;
+
+    /**
+     * The claimed seat, in its encoded form.
+     *
+     * @see Seat#encode(int)
+     */
+    @Column(name = "seat", nullable = false)
+    private int seat;
+
+}
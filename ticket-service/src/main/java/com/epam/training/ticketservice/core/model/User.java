@@ -38,7 +38,7 @@ public class User {
     private String username;
 
     /**
-     * The user's password.
+     * The salted bcrypt hash of the user's password.
      */
     @Column(name = "password")
     private String password;
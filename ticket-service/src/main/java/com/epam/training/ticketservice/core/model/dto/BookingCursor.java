@@ -0,0 +1,24 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks the last booking of a page of a user's bookings. The next page starts right after it in
+ * booking time order, with the booking id breaking ties between bookings made at the same time.
+ */
+@Value
+public class BookingCursor {
+
+    /**
+     * The time the last booking of the page was made.
+     */
+    LocalDateTime bookingTime;
+
+    /**
+     * The id of the last booking of the page.
+     */
+    long id;
+
+}
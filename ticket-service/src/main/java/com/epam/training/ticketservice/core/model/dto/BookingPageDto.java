@@ -0,0 +1,21 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingPageDto {
+
+    private List<BookingDto> bookings;
+
+    /**
+     * The cursor to pass to read the next page, or null if this is the last page.
+     */
+    private BookingCursor next;
+
+}
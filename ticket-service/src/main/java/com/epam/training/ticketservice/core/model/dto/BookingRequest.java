@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import com.epam.training.ticketservice.core.model.Seat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingRequest {
+
+    private String username;
+
+    private String movieTitle;
+
+    private String roomName;
+
+    private LocalDateTime startTime;
+
+    private List<Seat> seats;
+
+}
@@ -0,0 +1,26 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceQuoteDto {
+
+    private String movieTitle;
+
+    private String roomName;
+
+    private LocalDateTime startTime;
+
+    /**
+     * The price of a single seat in each row of the room, the price of row {@code r}
+     * being stored at index {@code r - 1}. Every seat of a row costs the same.
+     */
+    private int[] rowPrices;
+
+}
@@ -1,9 +1,13 @@
 package com.epam.training.ticketservice.core.model.dto;
 
+import com.epam.training.ticketservice.core.model.enums.PricingType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -15,9 +19,22 @@ public class PricingDto {
 
     private int amount;
 
+    private PricingType type;
+
+    private LocalTime fromTime;
+
+    private LocalTime toTime;
+
+    private DayOfWeek dayOfWeek;
+
+    private Integer minRow;
+
+    private Integer maxRow;
+
     public PricingDto(String name, int amount) {
         this.name = name;
         this.amount = amount;
+        this.type = PricingType.FIXED;
     }
 
 }
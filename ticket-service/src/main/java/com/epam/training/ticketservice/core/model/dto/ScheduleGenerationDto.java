@@ -0,0 +1,22 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleGenerationDto {
+
+    private int generatedCount;
+
+    /**
+     * The number of requested screenings which did not fit into the schedule, keyed by movie title.
+     * Movies whose screenings all fit are left out.
+     */
+    private Map<String, Integer> unscheduledCounts;
+
+}
@@ -0,0 +1,22 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScreeningImportDto {
+
+    private int importedCount;
+
+    /**
+     * One message for every rejected line of the schedule file, in the order of the lines,
+     * each starting with the number of the line.
+     */
+    private List<String> errors;
+
+}
@@ -0,0 +1,24 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatAvailabilityDto {
+
+    private int rows;
+
+    private int columns;
+
+    private int freeSeats;
+
+    /**
+     * The occupancy bits of the seats, 64 per word, the seat at row {@code r} and column {@code c}
+     * being stored at bit index {@code (r - 1) * columns + (c - 1)}.
+     */
+    private long[] occupancy;
+
+}
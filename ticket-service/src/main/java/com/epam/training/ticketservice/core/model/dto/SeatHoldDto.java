@@ -0,0 +1,21 @@
+package com.epam.training.ticketservice.core.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatHoldDto {
+
+    private Long id;
+
+    private List<String> seats;
+
+    private LocalDateTime expiresAt;
+
+}
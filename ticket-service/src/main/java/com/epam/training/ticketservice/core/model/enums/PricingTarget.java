@@ -0,0 +1,23 @@
+package com.epam.training.ticketservice.core.model.enums;
+
+/**
+ * Enum representing the kinds of entities a pricing component can be attached to.
+ */
+public enum PricingTarget {
+
+    /**
+     * The component applies to every screening of a movie.
+     */
+    MOVIE,
+
+    /**
+     * The component applies to every screening in a room.
+     */
+    ROOM,
+
+    /**
+     * The component applies to a single screening.
+     */
+    SCREENING
+
+}
@@ -0,0 +1,18 @@
+package com.epam.training.ticketservice.core.model.enums;
+
+/**
+ * Enum representing how the amount of a pricing component modifies the price of a seat.
+ */
+public enum PricingType {
+
+    /**
+     * The amount is added to the price of a seat in HUF.
+     */
+    FIXED,
+
+    /**
+     * The amount is a percentage applied to the base price plus the fixed components.
+     */
+    PERCENTAGE
+
+}
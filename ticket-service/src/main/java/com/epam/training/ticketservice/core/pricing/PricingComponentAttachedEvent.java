@@ -0,0 +1,22 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.enums.PricingTarget;
+import lombok.Value;
+
+/**
+ * Published after a pricing component has been attached to a movie, a room or a screening.
+ */
+@Value
+public class PricingComponentAttachedEvent {
+
+    /**
+     * The kind of entity the component has been attached to.
+     */
+    PricingTarget target;
+
+    /**
+     * The id of the entity the component has been attached to.
+     */
+    Long targetId;
+
+}
@@ -0,0 +1,128 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
+import com.epam.training.ticketservice.core.repository.PricingConfigurationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Node-local copy of the persisted {@link PricingConfiguration}. Reads are served from a volatile
+ * snapshot without touching the database. Changes made on this node replace the snapshot once they are
+ * committed, while changes made on other nodes are picked up by a periodic check of the configuration
+ * version. The configuration row is created at startup, so changes only ever update it.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingConfigurationCache {
+
+    /**
+     * The version of the snapshot while no configuration has been persisted yet.
+     */
+    private static final long NO_VERSION = -1;
+
+    private final PricingConfigurationRepository pricingConfigurationRepository;
+
+    /**
+     * The current configuration, loaded on first use.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Returns the base price of a seat from the local snapshot.
+     *
+     * @return The base price of a seat.
+     */
+    public int getBasePrice() {
+        return current().basePrice();
+    }
+
+    /**
+     * Persists a new base price and makes it visible on this node once the change is committed.
+     *
+     * @param basePrice The new base price of a seat.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException If another node
+     *         changed the configuration at the same time.
+     * @throws IllegalStateException If the configuration row has not been created.
+     */
+    @Transactional
+    public void updateBasePrice(int basePrice) {
+        PricingConfiguration configuration = pricingConfigurationRepository.findById(PricingConfiguration.ID)
+                .orElseThrow(() -> new IllegalStateException("The pricing configuration has not been created"));
+        configuration.setBasePrice(basePrice);
+        PricingConfiguration saved = pricingConfigurationRepository.saveAndFlush(configuration);
+        Snapshot updated = new Snapshot(saved.getBasePrice(), saved.getVersion());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(updated);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(updated);
+            }
+        });
+    }
+
+    /**
+     * Reloads the snapshot if the persisted configuration has a different version,
+     * so that changes made on other nodes become visible.
+     */
+    @Scheduled(fixedDelayString = "${ticket-service.pricing.refresh-millis:5000}")
+    public void refresh() {
+        long version = pricingConfigurationRepository.findVersionById(PricingConfiguration.ID).orElse(NO_VERSION);
+        Snapshot current = snapshot;
+        if (current == null || current.version() != version) {
+            snapshot = load();
+        }
+    }
+
+    /**
+     * Replaces the snapshot unless it already holds a newer version, so that changes committed
+     * concurrently on this node are published in version order.
+     *
+     * @param updated The snapshot of the committed configuration.
+     */
+    private synchronized void publish(Snapshot updated) {
+        Snapshot current = snapshot;
+        if (current == null || current.version() < updated.version()) {
+            snapshot = updated;
+        }
+    }
+
+    /**
+     * Returns the current snapshot, loading it on first use.
+     *
+     * @return The current snapshot.
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = load();
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Loads the persisted configuration, falling back to the defaults if there is none yet.
+     *
+     * @return The loaded snapshot.
+     */
+    private Snapshot load() {
+        return pricingConfigurationRepository.findById(PricingConfiguration.ID)
+                .map(configuration -> new Snapshot(configuration.getBasePrice(), configuration.getVersion()))
+                .orElseGet(() -> new Snapshot(PricingConfiguration.DEFAULT_BASE_PRICE, NO_VERSION));
+    }
+
+    /**
+     * An immutable copy of the configuration.
+     */
+    private record Snapshot(int basePrice, long version) {
+    }
+
+}
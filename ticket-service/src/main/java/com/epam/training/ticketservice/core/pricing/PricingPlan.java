@@ -0,0 +1,178 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable evaluation plan of the pricing components of a single screening.
+ * Conditions on the start time and day are resolved when the plan is compiled, and the
+ * components which apply to every seat are folded into two totals. Only row-restricted
+ * components are kept as tiers, so pricing a seat is a few additions without any allocation.
+ */
+public final class PricingPlan {
+
+    private static final int[] NO_TIERS = new int[0];
+
+    /**
+     * The summed fixed amount of the components applying to every seat.
+     */
+    private final int fixedAmount;
+
+    /**
+     * The summed percentage of the components applying to every seat.
+     */
+    private final int percentage;
+
+    /**
+     * The first row of each row-restricted tier, inclusive.
+     */
+    private final int[] tierMinRows;
+
+    /**
+     * The last row of each row-restricted tier, inclusive.
+     */
+    private final int[] tierMaxRows;
+
+    /**
+     * The fixed amount of each row-restricted tier.
+     */
+    private final int[] tierFixedAmounts;
+
+    /**
+     * The percentage of each row-restricted tier.
+     */
+    private final int[] tierPercentages;
+
+    private PricingPlan(int fixedAmount, int percentage, int[] tierMinRows, int[] tierMaxRows,
+                        int[] tierFixedAmounts, int[] tierPercentages) {
+        this.fixedAmount = fixedAmount;
+        this.percentage = percentage;
+        this.tierMinRows = tierMinRows;
+        this.tierMaxRows = tierMaxRows;
+        this.tierFixedAmounts = tierFixedAmounts;
+        this.tierPercentages = tierPercentages;
+    }
+
+    /**
+     * Compiles the plan of a screening from the components attached to its movie, its room and itself.
+     * A component attached more than once is applied more than once.
+     *
+     * @param startTime  The start time of the screening.
+     * @param components The pricing components of the screening.
+     * @return The compiled plan.
+     */
+    public static PricingPlan compile(LocalDateTime startTime, Collection<Pricing> components) {
+        int fixedAmount = 0;
+        int percentage = 0;
+        int tiers = 0;
+        int[] tierMinRows = new int[components.size()];
+        int[] tierMaxRows = new int[components.size()];
+        int[] tierFixedAmounts = new int[components.size()];
+        int[] tierPercentages = new int[components.size()];
+
+        for (Pricing component : components) {
+            if (!appliesTo(component, startTime)) {
+                continue;
+            }
+
+            boolean isPercentage = component.getType() == PricingType.PERCENTAGE;
+            if (component.getMinRow() == null && component.getMaxRow() == null) {
+                fixedAmount += isPercentage ? 0 : component.getAmount();
+                percentage += isPercentage ? component.getAmount() : 0;
+            } else {
+                tierMinRows[tiers] = component.getMinRow() == null ? Integer.MIN_VALUE : component.getMinRow();
+                tierMaxRows[tiers] = component.getMaxRow() == null ? Integer.MAX_VALUE : component.getMaxRow();
+                tierFixedAmounts[tiers] = isPercentage ? 0 : component.getAmount();
+                tierPercentages[tiers] = isPercentage ? component.getAmount() : 0;
+                tiers++;
+            }
+        }
+
+        return tiers == 0
+                ? new PricingPlan(fixedAmount, percentage, NO_TIERS, NO_TIERS, NO_TIERS, NO_TIERS)
+                : new PricingPlan(fixedAmount, percentage, Arrays.copyOf(tierMinRows, tiers),
+                        Arrays.copyOf(tierMaxRows, tiers), Arrays.copyOf(tierFixedAmounts, tiers),
+                        Arrays.copyOf(tierPercentages, tiers));
+    }
+
+    /**
+     * Checks whether the price of a seat depends on its row.
+     *
+     * @return {@code true} if the plan has row-restricted components, otherwise {@code false}.
+     */
+    public boolean dependsOnRow() {
+        return tierMinRows.length > 0;
+    }
+
+    /**
+     * Calculates the price of a seat. Fixed amounts are added to the base price first,
+     * then the percentages are applied to that subtotal, rounding to the nearest HUF.
+     *
+     * @param basePrice The base price of a seat.
+     * @param row       The 1-based row of the seat; ignored unless the plan {@link #dependsOnRow()}.
+     * @return The price of the seat.
+     */
+    public int seatPrice(int basePrice, int row) {
+        long subtotal = (long) basePrice + fixedAmount;
+        long totalPercentage = percentage;
+        for (int i = 0; i < tierMinRows.length; i++) {
+            if (row >= tierMinRows[i] && row <= tierMaxRows[i]) {
+                subtotal += tierFixedAmounts[i];
+                totalPercentage += tierPercentages[i];
+            }
+        }
+        return totalPercentage == 0
+                ? (int) subtotal
+                : (int) Math.round(subtotal * (100 + totalPercentage) / 100.0);
+    }
+
+    /**
+     * Calculates the price of a seat in every row of a room.
+     *
+     * @param basePrice The base price of a seat.
+     * @param rows      The number of rows in the room.
+     * @return The seat prices, the price of row {@code r} being stored at index {@code r - 1}.
+     */
+    public int[] rowPrices(int basePrice, int rows) {
+        int[] prices = new int[Math.max(rows, 0)];
+        if (!dependsOnRow()) {
+            Arrays.fill(prices, seatPrice(basePrice, 0));
+            return prices;
+        }
+        for (int row = 1; row <= prices.length; row++) {
+            prices[row - 1] = seatPrice(basePrice, row);
+        }
+        return prices;
+    }
+
+    /**
+     * Checks whether the screening conditions of a component hold for the given start time.
+     *
+     * @param component The pricing component.
+     * @param startTime The start time of the screening.
+     * @return {@code true} if the component applies to the screening, otherwise {@code false}.
+     */
+    private static boolean appliesTo(Pricing component, LocalDateTime startTime) {
+        if (component.getDayOfWeek() != null && component.getDayOfWeek() != startTime.getDayOfWeek()) {
+            return false;
+        }
+
+        LocalTime from = component.getFromTime();
+        LocalTime to = component.getToTime();
+        if (from == null && to == null) {
+            return true;
+        }
+
+        LocalTime time = startTime.toLocalTime();
+        if (from != null && to != null && to.isBefore(from)) {
+            return !time.isBefore(from) || time.isBefore(to);
+        }
+        return (from == null || !time.isBefore(from)) && (to == null || time.isBefore(to));
+    }
+
+}
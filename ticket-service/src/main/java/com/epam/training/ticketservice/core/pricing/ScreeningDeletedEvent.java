@@ -0,0 +1,16 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import lombok.Value;
+
+/**
+ * Published after a screening has been deleted.
+ */
+@Value
+public class ScreeningDeletedEvent {
+
+    /**
+     * The id of the deleted screening.
+     */
+    Long screeningId;
+
+}
@@ -0,0 +1,236 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Caches the compiled {@link PricingPlan} of each screening, keyed by screening id. Entries are also
+ * indexed by the screening's movie title, room name and start time, so that a price quote for a
+ * known screening is answered from memory without loading it. Attaching a component evicts only
+ * the screenings it applies to. Components attached on other nodes do not reach this node, so a plan
+ * also expires a while after it was compiled and is compiled again on next use.
+ */
+@Component
+public class ScreeningPriceCache {
+
+    /**
+     * The time a plan stays cached after it was compiled, in milliseconds.
+     */
+    private final long ttlMillis;
+
+    /**
+     * The source of the current time in milliseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * The cached plans, keyed by screening id.
+     */
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The ids of the cached screenings, keyed by movie title, room name and start time.
+     */
+    private final Map<ScreeningKey, Long> screeningIds = new ConcurrentHashMap<>();
+
+    /**
+     * The number of evictions started so far. Each eviction increments it before removing entries,
+     * so a plan compiled while the count changed may predate the eviction and is not cached.
+     */
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Constructor to create the cache with the configured time to live.
+     *
+     * @param ttlMillis The time a plan stays cached after it was compiled, in milliseconds.
+     */
+    @Autowired
+    public ScreeningPriceCache(@Value("${ticket-service.pricing.plan-ttl-millis:60000}") long ttlMillis) {
+        this(ttlMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor to create the cache with an explicit time source.
+     *
+     * @param ttlMillis The time a plan stays cached after it was compiled, in milliseconds.
+     * @param clock     The source of the current time in milliseconds.
+     */
+    ScreeningPriceCache(long ttlMillis, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the pricing plan of a screening, compiling and caching it if it is not cached yet or has
+     * expired. Screenings that have not been saved yet are never cached. A plan is compiled outside the map, so
+     * an eviction may run while the compiler reads the database; such a plan is returned but not cached.
+     *
+     * @param screening The screening.
+     * @param compiler  The function compiling the plan of the screening.
+     * @return The pricing plan of the screening.
+     */
+    public PricingPlan getPlan(Screening screening, Function<Screening, PricingPlan> compiler) {
+        Long screeningId = screening.getId();
+        Entry cached = screeningId == null ? null : live(screeningId);
+        if (cached != null) {
+            return cached.plan();
+        }
+
+        final long generation = evictions.get();
+        PricingPlan plan = compiler.apply(screening);
+        if (screeningId == null) {
+            return plan;
+        }
+
+        Entry compiled = new Entry(ScreeningKey.of(screening), screening.getMovie().getId(),
+                screening.getRoom().getId(), plan, clock.getAsLong() + ttlMillis);
+        Entry entry = entries.compute(screeningId, (id, existing) ->
+                existing != null || evictions.get() != generation ? existing : compiled);
+        if (entry == null) {
+            return plan;
+        }
+        screeningIds.put(entry.key(), screeningId);
+        return entry.plan();
+    }
+
+    /**
+     * Looks up the cached pricing plan of a screening by its natural key.
+     *
+     * @param movieTitle The title of the movie.
+     * @param roomName   The name of the room.
+     * @param startTime  The start time of the screening.
+     * @return The pricing plan of the screening, or empty if the screening is not cached or has expired.
+     */
+    public Optional<PricingPlan> findPlan(String movieTitle, String roomName, LocalDateTime startTime) {
+        Long screeningId = screeningIds.get(new ScreeningKey(movieTitle, roomName, startTime));
+        Entry entry = screeningId == null ? null : live(screeningId);
+        return entry == null ? Optional.empty() : Optional.of(entry.plan());
+    }
+
+    /**
+     * Evicts the screenings a newly attached pricing component applies to.
+     *
+     * @param event The event describing the attached component.
+     */
+    @EventListener
+    public void onPricingComponentAttached(PricingComponentAttachedEvent event) {
+        evictions.incrementAndGet();
+        Long targetId = event.getTargetId();
+        switch (event.getTarget()) {
+            case MOVIE -> evictIf(entry -> Objects.equals(entry.movieId(), targetId));
+            case ROOM -> evictIf(entry -> Objects.equals(entry.roomId(), targetId));
+            case SCREENING -> evict(targetId);
+            default -> throw new IllegalArgumentException("Unknown pricing target: " + event.getTarget());
+        }
+    }
+
+    /**
+     * Evicts a deleted screening, so that a new screening with the same movie, room and start time
+     * is not priced with its components.
+     *
+     * @param event The event describing the deleted screening.
+     */
+    @EventListener
+    public void onScreeningDeleted(ScreeningDeletedEvent event) {
+        evictions.incrementAndGet();
+        evict(event.getScreeningId());
+    }
+
+    /**
+     * Drops the expired plans, so that screenings which are not priced again do not stay in memory.
+     */
+    @Scheduled(fixedDelayString = "${ticket-service.pricing.plan-ttl-millis:60000}")
+    public void dropExpired() {
+        long now = clock.getAsLong();
+        evictIf(entry -> entry.isExpired(now));
+    }
+
+    /**
+     * Returns the number of screenings which can be looked up by their natural key.
+     *
+     * @return The number of indexed screenings.
+     */
+    int countIndexedScreenings() {
+        return screeningIds.size();
+    }
+
+    /**
+     * Returns the cached entry of a screening, dropping it if it has expired.
+     *
+     * @param screeningId The id of the screening.
+     * @return The entry of the screening, or null if it is not cached or has expired.
+     */
+    private Entry live(Long screeningId) {
+        Entry entry = entries.get(screeningId);
+        if (entry == null || !entry.isExpired(clock.getAsLong())) {
+            return entry;
+        }
+        if (entries.remove(screeningId, entry)) {
+            screeningIds.remove(entry.key(), screeningId);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a screening together with its natural key.
+     *
+     * @param screeningId The id of the screening.
+     */
+    private void evict(Long screeningId) {
+        Entry entry = entries.remove(screeningId);
+        if (entry != null) {
+            screeningIds.remove(entry.key(), screeningId);
+        }
+    }
+
+    /**
+     * Removes the screenings whose entries match a condition together with their natural keys.
+     *
+     * @param condition The condition of the entries to remove.
+     */
+    private void evictIf(Predicate<Entry> condition) {
+        for (Map.Entry<Long, Entry> cached : entries.entrySet()) {
+            if (condition.test(cached.getValue()) && entries.remove(cached.getKey(), cached.getValue())) {
+                screeningIds.remove(cached.getValue().key(), cached.getKey());
+            }
+        }
+    }
+
+    /**
+     * A cached plan together with the ids it depends on and the time it expires at.
+     */
+    private record Entry(ScreeningKey key, Long movieId, Long roomId, PricingPlan plan, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+    }
+
+    /**
+     * Identifies a screening by its movie title, room name and start time.
+     */
+    private record ScreeningKey(String movieTitle, String roomName, LocalDateTime startTime) {
+
+        static ScreeningKey of(Screening screening) {
+            return new ScreeningKey(screening.getMovie().getTitle(), screening.getRoom().getName(),
+                    screening.getStartTime());
+        }
+
+    }
+
+}
@@ -1,16 +1,38 @@
 package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
 import com.epam.training.ticketservice.core.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    boolean existsByScreeningAndSeatsContaining(Screening screening, String seat);
-
+    @EntityGraph(Booking.WITH_SCREENING)
     List<Booking> findAllByUser(User user);
 
+    @Query("select b.id from Booking b where b.user = :user order by b.bookingTime, b.id")
+    List<Long> findPageIdsByUser(@Param("user") User user, Pageable pageable);
+
+    @Query("select b.id from Booking b where b.user = :user and (b.bookingTime > :bookingTime"
+            + " or (b.bookingTime = :bookingTime and b.id > :id)) order by b.bookingTime, b.id")
+    List<Long> findPageIdsByUserAfter(@Param("user") User user, @Param("bookingTime") LocalDateTime bookingTime,
+                                      @Param("id") long id, Pageable pageable);
+
+    @EntityGraph(Booking.WITH_SCREENING)
+    List<Booking> findAllByIdInOrderByBookingTimeAscIdAsc(Collection<Long> ids);
+
+    boolean existsByScreeningRoom(Room room);
+
+    @Query("select s from Booking b join b.seats s where b.screening = :screening")
+    List<Integer> findBookedSeatsByScreening(@Param("screening") Screening screening);
+
 }
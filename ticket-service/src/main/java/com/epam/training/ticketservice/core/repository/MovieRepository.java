@@ -1,12 +1,39 @@
 package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Movie;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
     Optional<Movie> findByTitle(String title);
 
+    List<Movie> findByTitleIn(Collection<String> titles);
+
+    @EntityGraph(Movie.WITH_PRICING_COMPONENTS)
+    Optional<Movie> findWithPricingComponentsByTitle(String title);
+
+    /**
+     * Finds movies together with the pricing components attached to them with a single query.
+     *
+     * @param ids The ids of the movies.
+     * @return The movies found.
+     */
+    @Query("select distinct m from Movie m left join fetch m.pricingComponents where m.id in :ids")
+    List<Movie> findWithPricingComponentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds the length of the longest movie.
+     *
+     * @return The length of the longest movie in minutes, or empty if there are no movies.
+     */
+    @Query("select max(m.length) from Movie m")
+    Optional<Integer> findMaxLength();
+
 }
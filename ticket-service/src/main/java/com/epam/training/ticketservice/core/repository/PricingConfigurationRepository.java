@@ -0,0 +1,17 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PricingConfigurationRepository extends JpaRepository<PricingConfiguration, Long> {
+
+    @Query("select c.version from PricingConfiguration c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+}
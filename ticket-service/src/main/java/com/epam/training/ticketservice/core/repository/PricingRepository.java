@@ -2,8 +2,11 @@ package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Pricing;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +14,22 @@ public interface PricingRepository extends JpaRepository<Pricing, Long> {
 
     Optional<Pricing> findByName(String name);
 
+    /**
+     * Finds the pricing components attached to a screening's movie, its room and the screening itself
+     * with a single query. A component attached to more than one of them is returned once per attachment.
+     *
+     * @param screeningId The id of the screening.
+     * @return The pricing components of the screening.
+     */
+    @Query(value = "select p.* from pricings p"
+            + " join movie_pricing mp on mp.pricing_id = p.id"
+            + " join screenings s on s.movie_id = mp.movie_id where s.id = :screeningId"
+            + " union all select p.* from pricings p"
+            + " join room_pricing rp on rp.pricing_id = p.id"
+            + " join screenings s on s.room_id = rp.room_id where s.id = :screeningId"
+            + " union all select p.* from pricings p"
+            + " join screening_pricing sp on sp.pricing_id = p.id where sp.screening_id = :screeningId",
+            nativeQuery = true)
+    List<Pricing> findComponentsOfScreening(@Param("screeningId") Long screeningId);
+
 }
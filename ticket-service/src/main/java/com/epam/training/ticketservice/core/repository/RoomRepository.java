@@ -1,9 +1,16 @@
 package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Room;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +18,29 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     Optional<Room> findByName(String name);
 
+    List<Room> findByNameIn(Collection<String> names);
+
+    @EntityGraph(Room.WITH_PRICING_COMPONENTS)
+    Optional<Room> findWithPricingComponentsByName(String name);
+
+    /**
+     * Finds rooms together with the pricing components attached to them with a single query.
+     *
+     * @param ids The ids of the rooms.
+     * @return The rooms found.
+     */
+    @Query("select distinct r from Room r left join fetch r.pricingComponents where r.id in :ids")
+    List<Room> findWithPricingComponentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the row of a room until the end of the current transaction, so that screenings are added to
+     * the room by one transaction at a time across every node.
+     *
+     * @param id The id of the room.
+     * @return The locked room, if it exists.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Room r where r.id = :id")
+    Optional<Room> lockById(@Param("id") Long id);
+
 }
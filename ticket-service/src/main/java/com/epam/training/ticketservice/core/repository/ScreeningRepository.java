@@ -2,18 +2,89 @@ package com.epam.training.ticketservice.core.repository;
 
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.schedule.ScheduledScreening;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScreeningRepository extends JpaRepository<Screening, Long> {
 
-    List<Screening> findByRoom(Room room);
+    @Override
+    @EntityGraph(Screening.WITH_MOVIE_AND_ROOM)
+    List<Screening> findAll();
 
+    /**
+     * Finds the time slots of the screenings of a room starting from a point in time with a single query
+     * over the {@code (room_id, start_time)} index.
+     *
+     * @param room The room of the screenings.
+     * @param from The earliest start time, inclusive.
+     * @return The start time and movie length of each screening found, ordered by start time.
+     */
+    @Query("select new com.epam.training.ticketservice.core.schedule.ScheduledScreening(s.startTime, m.length)"
+            + " from Screening s join s.movie m where s.room = :room and s.startTime >= :from order by s.startTime")
+    List<ScheduledScreening> findScheduleOfRoomFrom(@Param("room") Room room, @Param("from") LocalDateTime from);
+
+    /**
+     * Finds the time slots of the screenings of a room starting in a time range with a single query
+     * over the {@code (room_id, start_time)} index.
+     *
+     * @param room The room of the screenings.
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The start time and movie length of each screening found, ordered by start time.
+     */
+    @Query("select new com.epam.training.ticketservice.core.schedule.ScheduledScreening(s.startTime, m.length)"
+            + " from Screening s join s.movie m where s.room = :room and s.startTime >= :from and s.startTime < :to"
+            + " order by s.startTime")
+    List<ScheduledScreening> findScheduleOfRoomBetween(@Param("room") Room room,
+                                                       @Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    @EntityGraph(Screening.WITH_MOVIE_AND_ROOM)
     Optional<Screening> findByMovieTitleAndRoomNameAndStartTime(String movieTitle,
                                                                 String roomName,
                                                                 LocalDateTime startTime);
 
+    /**
+     * Finds a screening together with the pricing components attached to it, to attach another one.
+     *
+     * @param movieTitle The title of the movie being screened.
+     * @param roomName   The name of the room where the screening takes place.
+     * @param startTime  The start time of the screening.
+     * @return The screening, if it exists.
+     */
+    @EntityGraph(Screening.WITH_PRICING_COMPONENTS)
+    Optional<Screening> findWithPricingComponentsByMovieTitleAndRoomNameAndStartTime(String movieTitle,
+                                                                                     String roomName,
+                                                                                     LocalDateTime startTime);
+
+    /**
+     * Finds the screenings starting in a time range together with their movie and their room. Their pricing
+     * components are loaded separately, as fetching all three component sets here would multiply the rows.
+     *
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The screenings of the range, ordered by start time.
+     */
+    @EntityGraph(Screening.WITH_MOVIE_AND_ROOM)
+    @Query("select s from Screening s where s.startTime >= :from and s.startTime < :to order by s.startTime")
+    List<Screening> findWithMovieAndRoomByStartTimeRange(@Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to);
+
+    /**
+     * Finds screenings together with the pricing components attached to them with a single query.
+     *
+     * @param ids The ids of the screenings.
+     * @return The screenings found.
+     */
+    @Query("select distinct s from Screening s left join fetch s.pricingComponents where s.id in :ids")
+    List<Screening> findWithPricingComponentsByIdIn(@Param("ids") Collection<Long> ids);
+
 }
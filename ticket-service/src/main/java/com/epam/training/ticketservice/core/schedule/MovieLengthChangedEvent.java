@@ -0,0 +1,16 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import lombok.Value;
+
+/**
+ * Published after the length of a movie has been changed.
+ */
+@Value
+public class MovieLengthChangedEvent {
+
+    /**
+     * The id of the changed movie.
+     */
+    Long movieId;
+
+}
@@ -0,0 +1,234 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * In-memory schedule of a single room, holding the length of each of its screenings keyed by start time.
+ * Stored screenings may overlap each other, as a movie can be made longer after it has been scheduled, so
+ * a screening starting long before a new one may still be running when a shorter one after it has ended.
+ * A new screening is therefore checked against every screening starting within the longest stored length
+ * before it, found with a range lookup on the start times.
+ * The schedule only holds the screenings which end after a point in time, so that a room's past does not
+ * stay in memory. Looking at a time before that point first loads the older screenings from the history,
+ * and {@link #dropEndedBy(LocalDateTime)} lets them go again.
+ * Every method is synchronized on the schedule, which makes checking and adding a screening atomic per room.
+ */
+public class RoomSchedule {
+
+    /**
+     * The length of the break a room needs after each screening, in minutes.
+     */
+    public static final int BREAK_MINUTES = 10;
+
+    /**
+     * The length of the screenings in minutes, keyed by start time.
+     */
+    private final NavigableMap<LocalDateTime, Integer> lengths = new TreeMap<>();
+
+    /**
+     * The source of the screenings the schedule does not hold.
+     */
+    private final History history;
+
+    /**
+     * The time after which every screening ending is held by the schedule.
+     */
+    private LocalDateTime heldFrom;
+
+    /**
+     * The longest length ever added to the schedule, in minutes. It is not lowered when screenings are
+     * removed, which only makes lookups consider a few more screenings than needed.
+     */
+    private int longestLength;
+
+    /**
+     * Constructor to create a schedule which holds every screening of its room.
+     */
+    public RoomSchedule() {
+        this(LocalDateTime.MIN, (endingAfter, startingBefore) -> List.of());
+    }
+
+    /**
+     * Constructor to create a schedule holding only the screenings which end after a point in time.
+     *
+     * @param heldFrom The time after which every screening ending is added to the schedule by its creator.
+     * @param history  The source of the screenings ending before that time.
+     */
+    public RoomSchedule(LocalDateTime heldFrom, History history) {
+        this.heldFrom = heldFrom;
+        this.history = history;
+    }
+
+    /**
+     * Adds a screening to the schedule unless it conflicts with an existing one.
+     *
+     * @param startTime The start time of the screening.
+     * @param length    The length of the screened movie in minutes.
+     * @return The conflict preventing the screening from being added, or empty if it has been added.
+     */
+    public synchronized Optional<ScheduleConflict> tryAdd(LocalDateTime startTime, int length) {
+        hold(startTime.minusMinutes(BREAK_MINUTES));
+        Optional<ScheduleConflict> conflict = findConflict(startTime, length);
+        if (conflict.isEmpty()) {
+            add(startTime, length);
+        }
+        return conflict;
+    }
+
+    /**
+     * Adds a screening to the schedule without checking it for conflicts.
+     *
+     * @param startTime The start time of the screening.
+     * @param length    The length of the screened movie in minutes.
+     */
+    public synchronized void add(LocalDateTime startTime, int length) {
+        lengths.merge(startTime, length, Math::max);
+        longestLength = Math.max(longestLength, length);
+    }
+
+    /**
+     * Removes the screening starting at the given time.
+     *
+     * @param startTime The start time of the screening.
+     */
+    public synchronized void remove(LocalDateTime startTime) {
+        lengths.remove(startTime);
+    }
+
+    /**
+     * Returns the screenings which may occupy the room in a time window: every one starting before the
+     * window whose break has not ended by its start, and every one starting inside it.
+     *
+     * @param from The start of the window, inclusive.
+     * @param to   The end of the window, exclusive.
+     * @return The screenings, ordered by start time.
+     */
+    public synchronized List<ScheduledScreening> getScreenings(LocalDateTime from, LocalDateTime to) {
+        hold(from.minusMinutes(BREAK_MINUTES));
+        List<ScheduledScreening> screenings = new ArrayList<>();
+        LocalDateTime earliestStart = from.minusMinutes(longestLength + BREAK_MINUTES);
+        lengths.subMap(earliestStart, false, to, false).forEach((startTime, length) -> {
+            if (!startTime.isBefore(from) || startTime.plusMinutes(length + BREAK_MINUTES).isAfter(from)) {
+                screenings.add(new ScheduledScreening(startTime, length));
+            }
+        });
+        return screenings;
+    }
+
+    /**
+     * Drops the screenings which have ended by a point in time, unless it is before the ones already dropped.
+     *
+     * @param time The point in time.
+     * @return The number of dropped screenings.
+     */
+    public synchronized int dropEndedBy(LocalDateTime time) {
+        if (!time.isAfter(heldFrom)) {
+            return 0;
+        }
+        int dropped = 0;
+        Iterator<Map.Entry<LocalDateTime, Integer>> iterator = lengths.headMap(time, false).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDateTime, Integer> screening = iterator.next();
+            if (!screening.getKey().plusMinutes(screening.getValue()).isAfter(time)) {
+                iterator.remove();
+                dropped++;
+            }
+        }
+        heldFrom = time;
+        return dropped;
+    }
+
+    /**
+     * Returns the number of screenings in the schedule.
+     *
+     * @return The number of screenings.
+     */
+    public synchronized int size() {
+        return lengths.size();
+    }
+
+    /**
+     * Makes sure the schedule holds every screening ending after a point in time, loading the missing ones
+     * from the history.
+     *
+     * @param time The point in time.
+     */
+    private void hold(LocalDateTime time) {
+        if (time.isBefore(heldFrom)) {
+            history.load(time, heldFrom).forEach(screening -> add(screening.getStartTime(), screening.getLength()));
+            heldFrom = time;
+        }
+    }
+
+    /**
+     * Finds a screening whose time slot, including the break after it, intersects the time slot of a new
+     * screening. Only screenings starting less than the longest stored length and a break before the new one,
+     * or before the new one and its break end, can intersect it. A screening still running at the new start
+     * time, or one which would start before the new screening ends, overlaps it; otherwise one of them would
+     * start in the break after the other. An overlap is reported in preference to a break conflict.
+     *
+     * @param startTime The start time of the new screening.
+     * @param length    The length of the new screening in minutes.
+     * @return The conflict found, or empty if the room is free for the whole new screening and its break.
+     */
+    private Optional<ScheduleConflict> findConflict(LocalDateTime startTime, int length) {
+        LocalDateTime endTime = startTime.plusMinutes(length);
+        Optional<ScheduleConflict> found = Optional.empty();
+        for (Map.Entry<LocalDateTime, Integer> screening : lengths.subMap(
+                startTime.minusMinutes(longestLength + BREAK_MINUTES), false,
+                endTime.plusMinutes(BREAK_MINUTES), false).entrySet()) {
+            Optional<ScheduleConflict> conflict = screening.getKey().isAfter(startTime)
+                    ? intersect(screening.getKey(), endTime)
+                    : intersect(startTime, screening.getKey().plusMinutes(screening.getValue()));
+            if (conflict.equals(Optional.of(ScheduleConflict.OVERLAPPING))) {
+                return conflict;
+            }
+            if (found.isEmpty()) {
+                found = conflict;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Compares the start of a later screening with the end of an earlier one.
+     *
+     * @param laterStart The start time of the later screening.
+     * @param earlierEnd The end time of the earlier screening.
+     * @return The conflict between the two screenings, or empty if the later one starts after the break.
+     */
+    private Optional<ScheduleConflict> intersect(LocalDateTime laterStart, LocalDateTime earlierEnd) {
+        if (laterStart.isBefore(earlierEnd)) {
+            return Optional.of(ScheduleConflict.OVERLAPPING);
+        }
+        if (laterStart.isBefore(earlierEnd.plusMinutes(BREAK_MINUTES))) {
+            return Optional.of(ScheduleConflict.IN_BREAK);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The screenings of a room the schedule does not hold in memory.
+     */
+    @FunctionalInterface
+    public interface History {
+
+        /**
+         * Loads at least every screening of the room which ends after one time and starts before another.
+         *
+         * @param endingAfter    The time after which the screenings end.
+         * @param startingBefore The time before which the screenings start.
+         * @return The screenings, possibly along with others of the room.
+         */
+        List<ScheduledScreening> load(LocalDateTime endingAfter, LocalDateTime startingBefore);
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepository;
+import com.epam.training.ticketservice.core.repository.ScreeningRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the schedule of every room in memory. A room's schedule is loaded lazily on first use and is
+ * expected to be updated by the screening code on every create and delete. Only the screenings which
+ * have not ended yet are loaded and kept, so memory does not grow with the history of the rooms; a
+ * schedule looking further back loads the older screenings it needs with a range query, and those are
+ * dropped again once they are over.
+ * A schedule does not see the screenings created on other nodes, so it only rejects conflicts quickly;
+ * a time slot it accepts is confirmed against the database before the screening is saved.
+ */
+@Component
+public class RoomScheduleRegistry {
+
+    private final ScreeningRepository screeningRepository;
+
+    private final MovieRepository movieRepository;
+
+    /**
+     * The source of the current time.
+     */
+    private final Supplier<LocalDateTime> clock;
+
+    /**
+     * The loaded schedules, keyed by room id.
+     */
+    private final Map<Long, RoomSchedule> schedules = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to create the registry reading the system clock.
+     *
+     * @param screeningRepository The repository of the screenings.
+     * @param movieRepository     The repository of the movies.
+     */
+    @Autowired
+    public RoomScheduleRegistry(ScreeningRepository screeningRepository, MovieRepository movieRepository) {
+        this(screeningRepository, movieRepository, LocalDateTime::now);
+    }
+
+    /**
+     * Constructor to create the registry with an explicit time source.
+     *
+     * @param screeningRepository The repository of the screenings.
+     * @param movieRepository     The repository of the movies.
+     * @param clock               The source of the current time.
+     */
+    RoomScheduleRegistry(ScreeningRepository screeningRepository, MovieRepository movieRepository,
+                         Supplier<LocalDateTime> clock) {
+        this.screeningRepository = screeningRepository;
+        this.movieRepository = movieRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the schedule of a room, loading it from the room's screenings if it is not cached yet.
+     *
+     * @param room The room whose schedule is requested.
+     * @return The schedule of the room.
+     */
+    public RoomSchedule getSchedule(Room room) {
+        return schedules.computeIfAbsent(room.getId(), id -> load(room));
+    }
+
+    /**
+     * Removes a deleted screening from the schedule of its room, if that schedule is loaded.
+     *
+     * @param screening The deleted screening.
+     */
+    public void remove(Screening screening) {
+        RoomSchedule schedule = schedules.get(screening.getRoom().getId());
+        if (schedule != null) {
+            schedule.remove(screening.getStartTime());
+        }
+    }
+
+    /**
+     * Drops the screenings which are over from every loaded schedule.
+     *
+     * @return The number of dropped screenings.
+     */
+    @Scheduled(fixedDelayString = "${ticket-service.schedule.drop-ended-millis:600000}")
+    public int dropEndedScreenings() {
+        LocalDateTime now = clock.get();
+        return schedules.values().stream()
+                .mapToInt(schedule -> schedule.dropEndedBy(now))
+                .sum();
+    }
+
+    /**
+     * Drops every schedule, as the screenings of a movie whose length changed may be in any room.
+     *
+     * @param event The event describing the changed movie.
+     */
+    @EventListener
+    public void onMovieLengthChanged(MovieLengthChangedEvent event) {
+        schedules.clear();
+    }
+
+    /**
+     * Builds the schedule of a room from the time slots of the screenings which have not ended yet, with a
+     * single query. No screening starting earlier than the longest movie before now can still be running.
+     *
+     * @param room The room to load.
+     * @return The loaded schedule.
+     */
+    private RoomSchedule load(Room room) {
+        LocalDateTime now = clock.get();
+        RoomSchedule schedule = new RoomSchedule(now, (endingAfter, startingBefore) -> screeningRepository
+                .findScheduleOfRoomBetween(room, endingAfter.minusMinutes(findMaxLength()), startingBefore));
+        for (ScheduledScreening screening
+                : screeningRepository.findScheduleOfRoomFrom(room, now.minusMinutes(findMaxLength()))) {
+            schedule.add(screening.getStartTime(), screening.getLength());
+        }
+        return schedule;
+    }
+
+    /**
+     * Finds the length of the longest movie.
+     *
+     * @return The length of the longest movie in minutes, or zero if there are no movies.
+     */
+    private int findMaxLength() {
+        return movieRepository.findMaxLength().orElse(0);
+    }
+
+}
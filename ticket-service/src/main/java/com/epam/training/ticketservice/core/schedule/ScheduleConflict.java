@@ -0,0 +1,18 @@
+package com.epam.training.ticketservice.core.schedule;
+
+/**
+ * The reasons a screening cannot be scheduled at a given time.
+ */
+public enum ScheduleConflict {
+
+    /**
+     * The screening would run at the same time as another screening in the room.
+     */
+    OVERLAPPING,
+
+    /**
+     * The screening, or the one following it, would start in the break after the other one.
+     */
+    IN_BREAK
+
+}
@@ -0,0 +1,249 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Generates screenings filling the free time of the rooms between the daily opening and closing times.
+ * The free gaps of every room and day are collected in parallel with fork/join. The requested screenings
+ * are then handed out longest movie first, each to the gap with the most free time left, which keeps
+ * the rooms evenly used and leaves the short movies to fill what remains. Finally the screenings of every
+ * gap are laid out back to back, separated by the break, again in parallel.
+ * The result is only a proposal: it must still be added to the room schedules like any other screening.
+ */
+@Component
+public class ScheduleGenerator {
+
+    /**
+     * The number of rooms and days or gaps a fork/join task handles without splitting further.
+     */
+    private static final int TASK_SIZE = 32;
+
+    /**
+     * The time of day from which screenings may start.
+     */
+    private final LocalTime openingTime;
+
+    /**
+     * The time of day by which screenings must end; if it is not after the opening time, it is on the next day.
+     */
+    private final LocalTime closingTime;
+
+    /**
+     * Constructor to create the generator with the configured opening hours.
+     *
+     * @param openingTime The time of day from which screenings may start, as {@code HH:mm}.
+     * @param closingTime The time of day by which screenings must end, as {@code HH:mm}.
+     */
+    public ScheduleGenerator(@Value("${ticket-service.schedule.opening-time:10:00}") String openingTime,
+                             @Value("${ticket-service.schedule.closing-time:23:00}") String closingTime) {
+        this.openingTime = LocalTime.parse(openingTime);
+        this.closingTime = LocalTime.parse(closingTime);
+    }
+
+    /**
+     * Generates screenings of the requested movies in the free time of the rooms on every day of a range.
+     *
+     * @param schedules The current schedules of the rooms to use.
+     * @param targets   The number of screenings requested for each movie.
+     * @param firstDay  The first day of the range.
+     * @param lastDay   The last day of the range, inclusive.
+     * @return The generated screenings; movies which do not fit get fewer screenings than requested.
+     */
+    public List<Screening> generate(Map<Room, RoomSchedule> schedules, Map<Movie, Integer> targets,
+                                    LocalDate firstDay, LocalDate lastDay) {
+        List<RoomDay> roomDays = new ArrayList<>();
+        schedules.forEach((room, schedule) -> firstDay.datesUntil(lastDay.plusDays(1))
+                .forEach(day -> roomDays.add(new RoomDay(room, schedule, day))));
+
+        List<Gap> gaps = ForkJoinPool.commonPool().invoke(new ForkJoinMap<>(roomDays, this::findGaps));
+        assign(gaps, targets);
+        return ForkJoinPool.commonPool().invoke(new ForkJoinMap<>(gaps, Gap::layOut));
+    }
+
+    /**
+     * Finds the free gaps of a room on a day, leaving a break after and before every existing screening.
+     *
+     * @param roomDay The room and day.
+     * @return The free gaps, ordered by start time.
+     */
+    private List<Gap> findGaps(RoomDay roomDay) {
+        LocalDateTime opening = roomDay.day.atTime(openingTime);
+        LocalDateTime closing = closingTime.isAfter(openingTime)
+                ? roomDay.day.atTime(closingTime)
+                : roomDay.day.plusDays(1).atTime(closingTime);
+
+        List<Gap> gaps = new ArrayList<>();
+        LocalDateTime free = opening;
+        for (ScheduledScreening screening
+                : roomDay.schedule.getScreenings(opening, closing.plusMinutes(RoomSchedule.BREAK_MINUTES))) {
+            LocalDateTime latestEnd = screening.getStartTime().minusMinutes(RoomSchedule.BREAK_MINUTES);
+            addGap(gaps, roomDay.room, free, latestEnd.isBefore(closing) ? latestEnd : closing);
+            LocalDateTime breakEnd = screening.getStartTime()
+                    .plusMinutes(screening.getLength() + RoomSchedule.BREAK_MINUTES);
+            if (breakEnd.isAfter(free)) {
+                free = breakEnd;
+            }
+        }
+        addGap(gaps, roomDay.room, free, closing);
+        return gaps;
+    }
+
+    /**
+     * Adds a gap to a list unless it is empty.
+     *
+     * @param gaps      The list of gaps.
+     * @param room      The room of the gap.
+     * @param start     The earliest start of a screening in the gap.
+     * @param latestEnd The latest end of a screening in the gap.
+     */
+    private void addGap(List<Gap> gaps, Room room, LocalDateTime start, LocalDateTime latestEnd) {
+        if (latestEnd.isAfter(start)) {
+            gaps.add(new Gap(room, start, Duration.between(start, latestEnd).toMinutes()));
+        }
+    }
+
+    /**
+     * Hands out the requested screenings, longest movie first, each to the gap with the most free time left.
+     * When even that gap is too short for a movie, the screening is dropped.
+     *
+     * @param gaps    The free gaps of every room and day.
+     * @param targets The number of screenings requested for each movie.
+     */
+    private void assign(List<Gap> gaps, Map<Movie, Integer> targets) {
+        PriorityQueue<Gap> byCapacity = new PriorityQueue<>(Comparator.comparingLong(Gap::getCapacity).reversed()
+                .thenComparing(gap -> gap.start)
+                .thenComparing(gap -> gap.room.getName()));
+        byCapacity.addAll(gaps);
+
+        List<Movie> movies = new ArrayList<>(targets.keySet());
+        movies.sort(Comparator.comparingInt(Movie::getLength).reversed().thenComparing(Movie::getTitle));
+        for (Movie movie : movies) {
+            int slot = movie.getLength() + RoomSchedule.BREAK_MINUTES;
+            for (int i = 0; i < targets.get(movie) && !byCapacity.isEmpty(); i++) {
+                if (byCapacity.peek().getCapacity() < slot) {
+                    break;
+                }
+                Gap gap = byCapacity.poll();
+                gap.movies.add(movie);
+                gap.capacity -= slot;
+                byCapacity.add(gap);
+            }
+        }
+    }
+
+    /**
+     * A room on a given day.
+     */
+    private static final class RoomDay {
+
+        private final Room room;
+
+        private final RoomSchedule schedule;
+
+        private final LocalDate day;
+
+        private RoomDay(Room room, RoomSchedule schedule, LocalDate day) {
+            this.room = room;
+            this.schedule = schedule;
+            this.day = day;
+        }
+
+    }
+
+    /**
+     * A free period of a room, together with the movies assigned to it.
+     */
+    private static final class Gap {
+
+        private final Room room;
+
+        private final LocalDateTime start;
+
+        private final List<Movie> movies = new ArrayList<>();
+
+        /**
+         * The minutes left for further screenings, each taking its length plus a break. The break after
+         * the last screening is already counted in, as it may run past the latest end of the gap.
+         */
+        private long capacity;
+
+        private Gap(Room room, LocalDateTime start, long minutes) {
+            this.room = room;
+            this.start = start;
+            this.capacity = minutes + RoomSchedule.BREAK_MINUTES;
+        }
+
+        private long getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Lays out the assigned movies back to back from the start of the gap, separated by the break.
+         *
+         * @return The screenings of the gap.
+         */
+        private List<Screening> layOut() {
+            List<Screening> screenings = new ArrayList<>(movies.size());
+            LocalDateTime startTime = start;
+            for (Movie movie : movies) {
+                screenings.add(new Screening(movie, room, startTime));
+                startTime = startTime.plusMinutes(movie.getLength() + RoomSchedule.BREAK_MINUTES);
+            }
+            return screenings;
+        }
+
+    }
+
+    /**
+     * Maps every element of a list to a list of results, splitting the work in halves until it is small enough.
+     *
+     * @param <T> The type of the elements.
+     * @param <R> The type of the results.
+     */
+    private static final class ForkJoinMap<T, R> extends RecursiveTask<List<R>> {
+
+        private final List<T> elements;
+
+        private final Function<T, List<R>> mapper;
+
+        private ForkJoinMap(List<T> elements, Function<T, List<R>> mapper) {
+            this.elements = elements;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (elements.size() <= TASK_SIZE) {
+                List<R> results = new ArrayList<>();
+                elements.forEach(element -> results.addAll(mapper.apply(element)));
+                return results;
+            }
+            int middle = elements.size() / 2;
+            ForkJoinMap<T, R> left = new ForkJoinMap<>(elements.subList(0, middle), mapper);
+            left.fork();
+            List<R> results = new ForkJoinMap<>(elements.subList(middle, elements.size()), mapper).compute();
+            List<R> leftResults = left.join();
+            leftResults.addAll(results);
+            return leftResults;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * A screening read from a line of a schedule file.
+ */
+@Value
+public class ScheduleImportLine {
+
+    /**
+     * The number of the line in the file, starting from 1.
+     */
+    int lineNumber;
+
+    /**
+     * The title of the movie to be screened.
+     */
+    String movieTitle;
+
+    /**
+     * The name of the room of the screening.
+     */
+    String roomName;
+
+    /**
+     * The start time of the screening.
+     */
+    LocalDateTime startTime;
+
+}
@@ -0,0 +1,23 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * The time slot a screening occupies in its room.
+ */
+@Value
+public class ScheduledScreening {
+
+    /**
+     * The start time of the screening.
+     */
+    LocalDateTime startTime;
+
+    /**
+     * The length of the screened movie in minutes.
+     */
+    int length;
+
+}
@@ -1,10 +1,17 @@
 package com.epam.training.ticketservice.core.service;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.Seat;
+import com.epam.training.ticketservice.core.model.dto.BookingCursor;
 import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.BookingPageDto;
+import com.epam.training.ticketservice.core.model.dto.BookingRequest;
+import com.epam.training.ticketservice.core.model.dto.SeatAvailabilityDto;
+import com.epam.training.ticketservice.core.model.dto.SeatHoldDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service interface for managing movie bookings.
@@ -25,7 +32,69 @@ public interface BookingService {
                                      String movieTitle,
                                      String roomName,
                                      LocalDateTime startTime,
-                                     List<String> seats);
+                                     List<Seat> seats);
+
+    /**
+     * Creates bookings for many users and screenings in a single transaction.
+     * Each screening and user is resolved only once, and the valid bookings are saved together.
+     * Requires admin privileges.
+     *
+     * @param requests The bookings to create.
+     * @return A {@code Result} containing one {@code Result} per request, in request order,
+     *         or an error message if the batch is rejected as a whole.
+     */
+    Result<List<Result<BookingDto>>> createBookings(List<BookingRequest> requests);
+
+    /**
+     * Takes a snapshot of the taken and free seats of a screening, without loading any bookings.
+     *
+     * @param movieTitle The title of the movie.
+     * @param roomName   The name of the room where the screening is taking place.
+     * @param startTime  The start time of the screening.
+     * @return A {@code Result} containing the {@code SeatAvailabilityDto} of the screening,
+     *         or an error message if the screening does not exist.
+     */
+    Result<SeatAvailabilityDto> getSeatAvailability(String movieTitle, String roomName, LocalDateTime startTime);
+
+    /**
+     * Finds the best available block of adjacent seats in one row of a screening,
+     * as close to the centre of the room as possible. The seats are not reserved.
+     *
+     * @param movieTitle The title of the movie.
+     * @param roomName   The name of the room where the screening is taking place.
+     * @param startTime  The start time of the screening.
+     * @param count      The number of adjacent seats requested.
+     * @return A {@code Result} containing the seats from left to right, or an error message
+     *         if the screening does not exist or no row has enough adjacent free seats.
+     */
+    Result<List<Seat>> findBestSeats(String movieTitle, String roomName, LocalDateTime startTime, int count);
+
+    /**
+     * Temporarily reserves seats of a screening for a user. The seats are released automatically
+     * unless the hold is confirmed before it expires.
+     *
+     * @param username   The username of the person holding the seats.
+     * @param movieTitle The title of the movie.
+     * @param roomName   The name of the room where the screening is taking place.
+     * @param startTime  The start time of the screening.
+     * @param seats      The list of seats to hold.
+     * @return A {@code Result} containing the created {@code SeatHoldDto} or an error message if the hold fails.
+     */
+    Result<SeatHoldDto> holdSeats(String username,
+                                  String movieTitle,
+                                  String roomName,
+                                  LocalDateTime startTime,
+                                  List<Seat> seats);
+
+    /**
+     * Turns a seat hold of a user into a booking. The held seats are not checked again.
+     *
+     * @param username The username of the person who holds the seats.
+     * @param holdId   The id of the hold.
+     * @return A {@code Result} containing the created {@code BookingDto} or an error message
+     *         if the hold does not exist or has expired.
+     */
+    Result<BookingDto> confirmHold(String username, long holdId);
 
     /**
      * Retrieves all bookings made by a specific user.
@@ -36,4 +105,27 @@ public interface BookingService {
      */
     Result<List<BookingDto>> getBookingsByUser(String username);
 
+    /**
+     * Retrieves one page of the bookings made by a specific user, in booking time order. Pages are read
+     * by keyset, so reading a late page of a long history costs the same as reading the first one.
+     *
+     * @param username The username of the user whose bookings are to be retrieved.
+     * @param after    The cursor returned with the previous page, or null to read the first page.
+     * @param pageSize The maximum number of bookings on the page.
+     * @return A {@code Result} containing the {@code BookingPageDto},
+     *         or an error message if the user is not authenticated or the page size is not positive.
+     */
+    Result<BookingPageDto> getBookingsByUser(String username, BookingCursor after, int pageSize);
+
+    /**
+     * Streams all bookings made by a specific user, in booking time order. The bookings are read lazily
+     * one page at a time, so only a single page is held in memory.
+     *
+     * @param username The username of the user whose bookings are to be retrieved.
+     * @param pageSize The number of bookings read from the database at a time.
+     * @return A {@code Result} containing the stream of {@code BookingDto} objects,
+     *         or an error message if the user is not authenticated or the page size is not positive.
+     */
+    Result<Stream<BookingDto>> streamBookingsByUser(String username, int pageSize);
+
 }
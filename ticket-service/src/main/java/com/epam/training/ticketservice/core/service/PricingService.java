@@ -1,6 +1,9 @@
 package com.epam.training.ticketservice.core.service;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
+import com.epam.training.ticketservice.core.model.dto.PricingDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +22,15 @@ public interface PricingService {
      */
     Result<Void> createPricingComponent(String name, int amount);
 
+    /**
+     * Creates a new pricing component with a type and optional conditions: a start time window,
+     * a day of the week and a range of seat rows. Components without conditions apply to every seat.
+     *
+     * @param rule The pricing component to create; unset conditions do not restrict the component.
+     * @return A {@code Result} indicating success or failure of the operation.
+     */
+    Result<Void> createPricingRule(PricingDto rule);
+
     /**
      * Updates the base price for all tickets.
      *
@@ -70,4 +82,26 @@ public interface PricingService {
      */
     Result<Integer> calculatePrice(String movieTitle, String roomName, LocalDateTime startDateTime, List<String> seats);
 
+    /**
+     * Quotes the seat prices of every screening starting in a time range. The screenings are loaded with
+     * one query and the pricing components of their movies, rooms and the screenings themselves with one
+     * query each, whatever the number of screenings.
+     *
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return A {@code Result} containing a quote per screening ordered by start time,
+     *         or an error message if the range is empty.
+     */
+    Result<List<PriceQuoteDto>> quotePrices(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Calculates the price of a single seat of a screening from the base price and every pricing component
+     * attached to its movie, its room and the screening itself that applies to the screening and the seat's row.
+     *
+     * @param screening The screening the seat belongs to.
+     * @param row       The 1-based row of the seat.
+     * @return The price of a single seat.
+     */
+    int calculateSeatPrice(Screening screening, int row);
+
 }
@@ -29,7 +29,8 @@ public interface RoomService {
     Result<List<RoomDto>> getRooms();
 
     /**
-     * Updates the details of an existing room.
+     * Updates the details of an existing room. A room with bookings cannot be resized, as its
+     * booked seats are stored encoded against its column count.
      *
      * @param name   The unique name of the room to update.
      * @param rows   The new number of rows for the room.
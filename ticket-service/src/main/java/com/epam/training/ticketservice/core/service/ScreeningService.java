@@ -1,10 +1,15 @@
 package com.epam.training.ticketservice.core.service;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.dto.ScheduleGenerationDto;
 import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningImportDto;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing movie screenings.
@@ -21,6 +26,31 @@ public interface ScreeningService {
      */
     Result<ScreeningDto> createScreening(String movieTitle, String roomName, LocalDateTime startTime);
 
+    /**
+     * Imports the screenings listed in a schedule file, one {@code movie title,room name,yyyy-MM-dd HH:mm}
+     * line each, where a field may be enclosed in double quotes to contain commas. Blank lines and lines
+     * starting with {@code #} are skipped. Lines which cannot be scheduled are reported, and every other
+     * screening is created. The file is read and imported in batches, so it is never held in memory at once.
+     *
+     * @param file The schedule file to import.
+     * @return A {@code Result} containing the number of imported screenings and the errors of the rejected lines,
+     *         or an error message if the file cannot be imported at all.
+     */
+    Result<ScreeningImportDto> importScreenings(Path file);
+
+    /**
+     * Generates screenings of movies filling the free time of all rooms on every day of a range,
+     * and creates them under the same rules as single screenings.
+     *
+     * @param firstDay        The first day of the range.
+     * @param lastDay         The last day of the range, inclusive.
+     * @param screeningCounts The number of screenings requested for each movie, keyed by title.
+     * @return A {@code Result} containing the number of created screenings and the number of screenings of each
+     *         movie which did not fit, or an error message if the schedule cannot be generated.
+     */
+    Result<ScheduleGenerationDto> generateSchedule(LocalDate firstDay, LocalDate lastDay,
+                                                   Map<String, Integer> screeningCounts);
+
     /**
      * Retrieves all scheduled screenings.
      *
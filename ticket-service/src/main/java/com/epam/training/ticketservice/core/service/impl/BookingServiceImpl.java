@@ -1,21 +1,51 @@
 package com.epam.training.ticketservice.core.service.impl;
 
+import com.epam.training.ticketservice.core.booking.BestSeatFinder;
+import com.epam.training.ticketservice.core.booking.BookingHistoryCache;
+import com.epam.training.ticketservice.core.booking.SeatHold;
+import com.epam.training.ticketservice.core.booking.SeatHoldRegistry;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.booking.SeatReservationEngine;
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.BookingMapper;
+import com.epam.training.ticketservice.core.mapper.UserMapper;
 import com.epam.training.ticketservice.core.model.Booking;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.Seat;
 import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.dto.BookingCursor;
 import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.BookingPageDto;
+import com.epam.training.ticketservice.core.model.dto.BookingRequest;
+import com.epam.training.ticketservice.core.model.dto.SeatAvailabilityDto;
+import com.epam.training.ticketservice.core.model.dto.SeatHoldDto;
 import com.epam.training.ticketservice.core.model.dto.UserDto;
 import com.epam.training.ticketservice.core.repository.BookingRepository;
 import com.epam.training.ticketservice.core.repository.ScreeningRepository;
+import com.epam.training.ticketservice.core.repository.UserRepository;
 import com.epam.training.ticketservice.core.service.BookingService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,22 +54,31 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
 
     private final ScreeningRepository screeningRepository;
-    
-    private final ObjectMapper objectMapper;
+
+    private final UserRepository userRepository;
+
+    private final SeatMapRegistry seatMapRegistry;
+
+    private final SeatReservationEngine reservationEngine;
+
+    private final SeatHoldRegistry seatHoldRegistry;
+
+    private final BookingHistoryCache bookingHistoryCache;
+
+    private final BookingMapper bookingMapper;
+
+    private final UserMapper userMapper;
 
     private final UserServiceImpl userService;
 
-    /**
-     * The price per seat for a booking.
-     */
-    private static final int SEAT_PRICE = 1500;
+    private final PricingServiceImpl pricingService;
 
     @Override
     public Result<BookingDto> createBooking(String username,
                                             String movieTitle,
                                             String roomName,
                                             LocalDateTime startTime,
-                                            List<String> seats) {
+                                            List<Seat> seats) {
         Result<UserDto> userResult = userService.getAuthenticatedUser(username);
         if (!userResult.isSuccess()) {
             return Result.failure(userResult.getMessage());
@@ -51,52 +90,322 @@ public class BookingServiceImpl implements BookingService {
     }
 
     /**
-     * Processes a booking request by validating the selected seats, calculating the total price,
-     * and saving the booking.
+     * Processes a booking request by atomically reserving the selected seats in the screening's
+     * seat map, calculating the total price, and saving the booking. The reservation is rolled
+     * back if the booking cannot be saved.
      *
      * @param user      The user making the booking.
      * @param screening The screening for which the booking is being made.
-     * @param seats     The list of seat identifiers to book.
+     * @param seats     The list of seats to book.
      * @return A {@code Result} containing the created {@code BookingDto} or an error message if the booking fails.
      */
-    private Result<BookingDto> processBooking(UserDto user, Screening screening, List<String> seats) {
-        for (String seat : seats) {
-            if (bookingRepository.existsByScreeningAndSeatsContaining(screening, seat)) {
-                return Result.failure("Seat (" + seat + ") is already taken");
+    private Result<BookingDto> processBooking(UserDto user, Screening screening, List<Seat> seats) {
+        SeatMap seatMap = seatMapRegistry.getSeatMap(screening);
+        Result<int[]> reservation = reserveSeats(screening, seatMap, seats);
+        if (!reservation.isSuccess()) {
+            return Result.failure(reservation.getMessage());
+        }
+
+        return saveReservedBooking(user, screening, seatMap, reservation.getData());
+    }
+
+    /**
+     * Saves a booking over seats already reserved in the screening's seat map.
+     * The reservation is rolled back if the booking cannot be saved or its transaction is rolled back,
+     * and the booking is added to the user's history once it is committed.
+     * The seat map only knows the bookings made through this node, so the database has the final say: if it
+     * refuses a seat booked on another node meanwhile, the seat map is reloaded and the seat reported taken.
+     *
+     * @param user        The user making the booking.
+     * @param screening   The screening for which the booking is being made.
+     * @param seatMap     The seat map the seats are reserved in.
+     * @param seatIndices The encoded reserved seats.
+     * @return A {@code Result} containing the created {@code BookingDto}, or an error message if a seat
+     *         turned out to be taken.
+     */
+    private Result<BookingDto> saveReservedBooking(UserDto user, Screening screening, SeatMap seatMap,
+                                                   int[] seatIndices) {
+        Booking booking;
+        try {
+            int price = calculatePrice(screening, seatMap, seatIndices);
+            booking = createAndSaveBooking(user, screening, seatIndices, price);
+        } catch (DataIntegrityViolationException e) {
+            seatMapRegistry.evict(screening.getId());
+            int taken = seatMapRegistry.getSeatMap(screening).findTaken(seatIndices);
+            if (taken < 0) {
+                throw e;
+            }
+            return Result.failure("Seat (" + Seat.decode(seatIndices[taken], seatMap.getColumns())
+                    + ") is already taken");
+        } catch (RuntimeException e) {
+            reservationEngine.release(screening.getId(), seatMap, seatIndices);
+            throw e;
+        }
+        BookingDto bookingDto = bookingMapper.toDto(booking);
+        afterCompletion(() -> bookingHistoryCache.append(user.getUsername(), bookingDto),
+                () -> reservationEngine.release(screening.getId(), seatMap, seatIndices));
+        return Result.success(bookingDto);
+    }
+
+    /**
+     * Validates the selected seats against the screening's room and atomically reserves them
+     * in the screening's seat map.
+     *
+     * @param screening The screening for which the seats are reserved.
+     * @param seatMap   The seat map of the screening.
+     * @param seats     The list of seats to reserve.
+     * @return A {@code Result} containing the encoded reserved seats or an error message if a seat
+     *         does not exist, is listed more than once or is already taken.
+     */
+    private Result<int[]> reserveSeats(Screening screening, SeatMap seatMap, List<Seat> seats) {
+        int[] seatIndices = new int[seats.size()];
+        BitSet listed = new BitSet();
+        for (int i = 0; i < seatIndices.length; i++) {
+            seatIndices[i] = seatMap.indexOf(seats.get(i));
+            if (seatIndices[i] < 0) {
+                return Result.failure("Seat (" + seats.get(i) + ") does not exist in this room");
+            }
+            if (listed.get(seatIndices[i])) {
+                return Result.failure("Seat (" + seats.get(i) + ") is listed more than once");
             }
+            listed.set(seatIndices[i]);
         }
 
-        int price = calculatePrice(seats.size());
-        Booking booking = createAndSaveBooking(user, screening, seats, price);
-        return Result.success(objectMapper.convertValue(booking, BookingDto.class));
+        int taken = reservationEngine.reserve(screening.getId(), seatMap, seatIndices);
+        if (taken >= 0) {
+            return Result.failure("Seat (" + seats.get(taken) + ") is already taken");
+        }
+        return Result.success(seatIndices);
     }
 
     /**
-     * Calculates the total price for a booking based on the number of seats.
+     * Calculates the total price for a booking by pricing each seat of the screening.
      *
-     * @param seatCount The number of seats in the booking.
+     * @param screening   The screening for which the booking is being made.
+     * @param seatMap     The seat map the seats were encoded for.
+     * @param seatIndices The encoded seats of the booking.
      * @return The total price for the booking.
      */
-    private int calculatePrice(int seatCount) {
-        return seatCount * SEAT_PRICE;
+    private int calculatePrice(Screening screening, SeatMap seatMap, int[] seatIndices) {
+        int totalPrice = 0;
+        for (int seatIndex : seatIndices) {
+            int row = Seat.decode(seatIndex, seatMap.getColumns()).getRow();
+            totalPrice += pricingService.calculateSeatPrice(screening, row);
+        }
+        return totalPrice;
     }
 
     /**
      * Creates and saves a booking entity.
      *
-     * @param user      The user making the booking.
-     * @param screening The screening for which the booking is being made.
-     * @param seats     The list of seat identifiers to book.
-     * @param price     The total price for the booking.
+     * @param user        The user making the booking.
+     * @param screening   The screening for which the booking is being made.
+     * @param seatIndices The encoded seats to book.
+     * @param price       The total price for the booking.
      * @return The saved {@code Booking} entity.
      */
-    private Booking createAndSaveBooking(UserDto user, Screening screening, List<String> seats, int price) {
-        User userEntity = objectMapper.convertValue(user, User.class);
-        Booking booking = new Booking(userEntity, screening, seats, price, LocalDateTime.now());
+    private Booking createAndSaveBooking(UserDto user, Screening screening, int[] seatIndices, int price) {
+        User userEntity = userMapper.toEntity(user);
+        Booking booking = new Booking(userEntity, screening, toSeatList(seatIndices), price, LocalDateTime.now());
         bookingRepository.save(booking);
         return booking;
     }
 
+    /**
+     * Boxes encoded seats into the list stored by a {@code Booking}.
+     *
+     * @param seatIndices The encoded seats.
+     * @return The list of encoded seats.
+     */
+    private List<Integer> toSeatList(int[] seatIndices) {
+        List<Integer> seats = new ArrayList<>(seatIndices.length);
+        for (int seatIndex : seatIndices) {
+            seats.add(seatIndex);
+        }
+        return seats;
+    }
+
+    @Override
+    @Transactional
+    public Result<List<Result<BookingDto>>> createBookings(List<BookingRequest> requests) {
+        Result<Void> adminCheck = userService.checkAdminPrivileges();
+        if (!adminCheck.isSuccess()) {
+            return Result.failure(adminCheck.getMessage());
+        }
+
+        Map<String, Optional<User>> users = new HashMap<>();
+        Map<ScreeningKey, Optional<Screening>> screenings = new HashMap<>();
+        List<Result<BookingDto>> results = new ArrayList<>(requests.size());
+        List<Booking> bookings = new ArrayList<>();
+        List<Integer> bookingPositions = new ArrayList<>();
+        List<Reservation> reservations = new ArrayList<>();
+
+        try {
+            for (BookingRequest request : requests) {
+                Optional<User> user = users.computeIfAbsent(request.getUsername(), userRepository::findByUsername);
+                Optional<Screening> screening = screenings.computeIfAbsent(ScreeningKey.of(request),
+                        key -> screeningRepository.findByMovieTitleAndRoomNameAndStartTime(
+                                key.movieTitle(), key.roomName(), key.startTime()));
+
+                if (user.isEmpty()) {
+                    results.add(Result.failure("Error: User '" + request.getUsername() + "' does not exist."));
+                } else if (screening.isEmpty()) {
+                    results.add(Result.failure("Error: Screening does not exist."));
+                } else {
+                    SeatMap seatMap = seatMapRegistry.getSeatMap(screening.get());
+                    Result<int[]> reservation = reserveSeats(screening.get(), seatMap, request.getSeats());
+                    if (reservation.isSuccess()) {
+                        reservations.add(new Reservation(screening.get(), seatMap, reservation.getData()));
+                        bookingPositions.add(results.size());
+                        bookings.add(new Booking(user.get(), screening.get(), toSeatList(reservation.getData()),
+                                calculatePrice(screening.get(), seatMap, reservation.getData()),
+                                LocalDateTime.now()));
+                    }
+                    results.add(reservation.isSuccess() ? null : Result.failure(reservation.getMessage()));
+                }
+            }
+
+            bookingRepository.saveAllAndFlush(bookings);
+        } catch (DataIntegrityViolationException e) {
+            reservations.forEach(reservation -> seatMapRegistry.evict(reservation.screening().getId()));
+            throw e;
+        } catch (RuntimeException e) {
+            releaseAll(reservations);
+            throw e;
+        }
+
+        List<BookingDto> bookingDtos = new ArrayList<>(bookings.size());
+        for (int i = 0; i < bookings.size(); i++) {
+            bookingDtos.add(bookingMapper.toDto(bookings.get(i)));
+            results.set(bookingPositions.get(i), Result.success(bookingDtos.get(i)));
+        }
+        afterCompletion(() -> {
+            for (int i = 0; i < bookings.size(); i++) {
+                bookingHistoryCache.append(bookings.get(i).getUser().getUsername(), bookingDtos.get(i));
+            }
+        }, () -> releaseAll(reservations));
+        return Result.success(results);
+    }
+
+    /**
+     * Releases seats reserved for bookings which were not saved.
+     *
+     * @param reservations The reservations to release.
+     */
+    private void releaseAll(List<Reservation> reservations) {
+        for (Reservation reservation : reservations) {
+            reservationEngine.release(reservation.screening().getId(), reservation.seatMap(),
+                    reservation.seatIndices());
+        }
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or another one if it is rolled back.
+     * Batched inserts may only reach the database at commit, so seats must not be released and saved
+     * bookings must not be published before the outcome is known. If the outcome is unknown, neither
+     * action runs and the seats stay reserved until the seat map is reloaded. Without a transaction the
+     * changes are already saved and the commit action runs at once.
+     *
+     * @param onCommit   The action to run after a commit.
+     * @param onRollback The action to run after a rollback.
+     */
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else if (status == STATUS_ROLLED_BACK) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    @Override
+    public Result<SeatAvailabilityDto> getSeatAvailability(String movieTitle,
+                                                           String roomName,
+                                                           LocalDateTime startTime) {
+        return screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime)
+                .map(screening -> {
+                    SeatMap seatMap = seatMapRegistry.getSeatMap(screening);
+                    long[] occupancy = seatMap.snapshot();
+                    int takenSeats = 0;
+                    for (long word : occupancy) {
+                        takenSeats += Long.bitCount(word);
+                    }
+                    return Result.success(new SeatAvailabilityDto(seatMap.getRows(), seatMap.getColumns(),
+                            seatMap.capacity() - takenSeats, occupancy));
+                })
+                .orElseGet(() -> Result.failure("Error: Screening does not exist."));
+    }
+
+    @Override
+    public Result<List<Seat>> findBestSeats(String movieTitle, String roomName, LocalDateTime startTime, int count) {
+        if (count <= 0) {
+            return Result.failure("Error: Number of seats must be positive.");
+        }
+
+        Optional<Screening> screening =
+                screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime);
+        if (screening.isEmpty()) {
+            return Result.failure("Error: Screening does not exist.");
+        }
+
+        SeatMap seatMap = seatMapRegistry.getSeatMap(screening.get());
+        return BestSeatFinder.find(seatMap, count)
+                .map(seatIndices -> Result.success(Arrays.stream(seatIndices)
+                        .mapToObj(index -> Seat.decode(index, seatMap.getColumns()))
+                        .toList()))
+                .orElseGet(() -> Result.failure("Error: No " + count + " adjacent seats are available."));
+    }
+
+    @Override
+    public Result<SeatHoldDto> holdSeats(String username,
+                                         String movieTitle,
+                                         String roomName,
+                                         LocalDateTime startTime,
+                                         List<Seat> seats) {
+        Result<UserDto> userResult = userService.getAuthenticatedUser(username);
+        if (!userResult.isSuccess()) {
+            return Result.failure(userResult.getMessage());
+        }
+
+        Optional<Screening> screening =
+                screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime);
+        if (screening.isEmpty()) {
+            return Result.failure("Error: Screening does not exist.");
+        }
+
+        SeatMap seatMap = seatMapRegistry.getSeatMap(screening.get());
+        Result<int[]> reservation = reserveSeats(screening.get(), seatMap, seats);
+        if (!reservation.isSuccess()) {
+            return Result.failure(reservation.getMessage());
+        }
+
+        SeatHold hold = seatHoldRegistry.hold(username, screening.get(), seatMap, reservation.getData());
+        return Result.success(new SeatHoldDto(hold.getId(), seats.stream().map(Seat::toString).toList(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.getExpiresAtMillis()), ZoneId.systemDefault())));
+    }
+
+    @Override
+    public Result<BookingDto> confirmHold(String username, long holdId) {
+        Result<UserDto> userResult = userService.getAuthenticatedUser(username);
+        if (!userResult.isSuccess()) {
+            return Result.failure(userResult.getMessage());
+        }
+
+        return seatHoldRegistry.claim(holdId, username)
+                .map(hold -> saveReservedBooking(userResult.getData(), hold.getScreening(),
+                        hold.getSeatMap(), hold.getSeatIndices()))
+                .orElseGet(() -> Result.failure("Error: Hold does not exist or has expired."));
+    }
+
     @Override
     public Result<List<BookingDto>> getBookingsByUser(String username) {
         Result<UserDto> userResult = userService.getAuthenticatedUser(username);
@@ -104,12 +413,96 @@ public class BookingServiceImpl implements BookingService {
             return Result.failure(userResult.getMessage());
         }
 
-        User userEntity = objectMapper.convertValue(userResult.getData(), User.class);
-        List<BookingDto> bookingDtos = bookingRepository.findAllByUser(userEntity).stream()
-                .map(booking -> objectMapper.convertValue(booking, BookingDto.class))
+        return Result.success(bookingHistoryCache.find(username)
+                .orElseGet(() -> bookingHistoryCache.load(username, () -> loadBookings(userResult.getData()))));
+    }
+
+    @Override
+    public Result<BookingPageDto> getBookingsByUser(String username, BookingCursor after, int pageSize) {
+        Result<UserDto> userResult = userService.getAuthenticatedUser(username);
+        if (!userResult.isSuccess()) {
+            return Result.failure(userResult.getMessage());
+        }
+        if (pageSize < 1) {
+            return Result.failure("Error: Page size must be positive.");
+        }
+
+        User userEntity = userMapper.toEntity(userResult.getData());
+        return Result.success(loadBookingPage(userEntity, after, pageSize));
+    }
+
+    @Override
+    public Result<Stream<BookingDto>> streamBookingsByUser(String username, int pageSize) {
+        Result<UserDto> userResult = userService.getAuthenticatedUser(username);
+        if (!userResult.isSuccess()) {
+            return Result.failure(userResult.getMessage());
+        }
+        if (pageSize < 1) {
+            return Result.failure("Error: Page size must be positive.");
+        }
+
+        User userEntity = userMapper.toEntity(userResult.getData());
+        Stream<BookingPageDto> pages = Stream.iterate(loadBookingPage(userEntity, null, pageSize), Objects::nonNull,
+                page -> page.getNext() == null ? null : loadBookingPage(userEntity, page.getNext(), pageSize));
+        return Result.success(pages.flatMap(page -> page.getBookings().stream()));
+    }
+
+    /**
+     * Loads a page of the bookings of a user. The ids of the page are found first using the
+     * {@code (user_id, booking_time)} index, then only those bookings are fetched with their screenings,
+     * since limiting a query fetching the booked seats as well would be applied in memory.
+     * One booking more than the page size is looked up to tell whether there is a next page.
+     *
+     * @param user     The user whose bookings are loaded.
+     * @param after    The cursor of the previous page, or null to load the first page.
+     * @param pageSize The maximum number of bookings on the page.
+     * @return The page of bookings.
+     */
+    private BookingPageDto loadBookingPage(User user, BookingCursor after, int pageSize) {
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Long> ids = after == null
+                ? bookingRepository.findPageIdsByUser(user, limit)
+                : bookingRepository.findPageIdsByUserAfter(user, after.getBookingTime(), after.getId(), limit);
+        if (ids.isEmpty()) {
+            return new BookingPageDto(List.of(), null);
+        }
+
+        boolean hasNext = ids.size() > pageSize;
+        List<Booking> bookings = bookingRepository.findAllByIdInOrderByBookingTimeAscIdAsc(
+                hasNext ? ids.subList(0, pageSize) : ids);
+        Booking last = bookings.get(bookings.size() - 1);
+        return new BookingPageDto(bookings.stream().map(bookingMapper::toDto).collect(Collectors.toList()),
+                hasNext ? new BookingCursor(last.getBookingTime(), last.getId()) : null);
+    }
+
+    /**
+     * Loads the bookings of a user from the database.
+     *
+     * @param user The user whose bookings are loaded.
+     * @return The bookings of the user.
+     */
+    private List<BookingDto> loadBookings(UserDto user) {
+        User userEntity = userMapper.toEntity(user);
+        return bookingRepository.findAllByUser(userEntity).stream()
+                .map(bookingMapper::toDto)
                 .collect(Collectors.toList());
+    }
+
+    /**
+     * Seats reserved in a screening's seat map for a booking which is not saved yet.
+     */
+    private record Reservation(Screening screening, SeatMap seatMap, int[] seatIndices) {
+    }
+
+    /**
+     * Identifies a screening by the natural key used in booking requests.
+     */
+    private record ScreeningKey(String movieTitle, String roomName, LocalDateTime startTime) {
+
+        static ScreeningKey of(BookingRequest request) {
+            return new ScreeningKey(request.getMovieTitle(), request.getRoomName(), request.getStartTime());
+        }
 
-        return Result.success(bookingDtos);
     }
 
 }
@@ -1,12 +1,14 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.MovieMapper;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.dto.MovieDto;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
+import com.epam.training.ticketservice.core.schedule.MovieLengthChangedEvent;
 import com.epam.training.ticketservice.core.service.MovieService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,10 +19,12 @@ public class MovieServiceImpl implements MovieService {
 
     private final MovieRepository movieRepository;
 
-    private final ObjectMapper objectMapper;
+    private final MovieMapper movieMapper;
 
     private final UserServiceImpl userService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public Result<MovieDto> createMovie(String title, String genre, int length) {
         Result<Void> adminCheck = userService.checkAdminPrivileges();
@@ -33,13 +37,13 @@ public class MovieServiceImpl implements MovieService {
         }
 
         Movie movie = movieRepository.save(new Movie(title, genre, length));
-        return Result.success(objectMapper.convertValue(movie, MovieDto.class));
+        return Result.success(movieMapper.toDto(movie));
     }
 
     @Override
     public Result<List<MovieDto>> getMovies() {
         List<MovieDto> movieDtos = movieRepository.findAll().stream()
-                .map(movie -> objectMapper.convertValue(movie, MovieDto.class))
+                .map(movie -> movieMapper.toDto(movie))
                 .toList();
 
         return movieDtos.isEmpty()
@@ -56,10 +60,14 @@ public class MovieServiceImpl implements MovieService {
 
         return movieRepository.findByTitle(title)
                 .map(movie -> {
+                    final boolean lengthChanged = movie.getLength() != length;
                     movie.setGenre(genre);
                     movie.setLength(length);
                     movieRepository.save(movie);
-                    return Result.success(objectMapper.convertValue(movie, MovieDto.class));
+                    if (lengthChanged) {
+                        eventPublisher.publishEvent(new MovieLengthChangedEvent(movie.getId()));
+                    }
+                    return Result.success(movieMapper.toDto(movie));
                 })
                 .orElseGet(() -> Result.failure("Error: Movie does not exist."));
     }
@@ -74,7 +82,7 @@ public class MovieServiceImpl implements MovieService {
         return movieRepository.findByTitle(title)
                 .map(movie -> {
                     movieRepository.delete(movie);
-                    return Result.success(objectMapper.convertValue(movie, MovieDto.class));
+                    return Result.success(movieMapper.toDto(movie));
                 })
                 .orElseGet(() -> Result.failure("Error: Movie does not exist."));
     }
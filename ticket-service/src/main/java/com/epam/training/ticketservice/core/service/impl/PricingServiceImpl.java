@@ -2,17 +2,32 @@ package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
 import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.Seat;
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
+import com.epam.training.ticketservice.core.model.dto.PricingDto;
+import com.epam.training.ticketservice.core.model.enums.PricingTarget;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
+import com.epam.training.ticketservice.core.pricing.PricingComponentAttachedEvent;
+import com.epam.training.ticketservice.core.pricing.PricingConfigurationCache;
+import com.epam.training.ticketservice.core.pricing.PricingPlan;
+import com.epam.training.ticketservice.core.pricing.ScreeningPriceCache;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
 import com.epam.training.ticketservice.core.repository.ScreeningRepository;
 import com.epam.training.ticketservice.core.repository.PricingRepository;
 import com.epam.training.ticketservice.core.service.PricingService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,10 +41,11 @@ public class PricingServiceImpl implements PricingService {
 
     private final ScreeningRepository screeningRepository;
 
-    /**
-     * The base price for a ticket, which can be adjusted.
-     */
-    private static int basePrice = 1500;
+    private final ScreeningPriceCache priceCache;
+
+    private final PricingConfigurationCache pricingConfigurationCache;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Result<Void> createPricingComponent(String name, int amount) {
@@ -40,9 +56,36 @@ public class PricingServiceImpl implements PricingService {
         return Result.success(null);
     }
 
+    @Override
+    public Result<Void> createPricingRule(PricingDto rule) {
+        if (pricingRepository.findByName(rule.getName()).isPresent()) {
+            return Result.failure("Error: Pricing component already exists.");
+        }
+        if (rule.getMinRow() != null && rule.getMaxRow() != null && rule.getMinRow() > rule.getMaxRow()) {
+            return Result.failure("Error: The first row of a pricing rule must not be after its last row.");
+        }
+        if (rule.getType() == PricingType.PERCENTAGE && rule.getAmount() <= -100) {
+            return Result.failure("Error: A percentage pricing rule must be greater than -100.");
+        }
+
+        Pricing pricing = new Pricing(rule.getName(), rule.getAmount());
+        pricing.setType(rule.getType() == null ? PricingType.FIXED : rule.getType());
+        pricing.setFromTime(rule.getFromTime());
+        pricing.setToTime(rule.getToTime());
+        pricing.setDayOfWeek(rule.getDayOfWeek());
+        pricing.setMinRow(rule.getMinRow());
+        pricing.setMaxRow(rule.getMaxRow());
+        pricingRepository.save(pricing);
+        return Result.success(null);
+    }
+
     @Override
     public Result<Void> updateBasePrice(int newBasePrice) {
-        basePrice = newBasePrice;
+        try {
+            pricingConfigurationCache.updateBasePrice(newBasePrice);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return Result.failure("Error: Base price was changed concurrently. Try again.");
+        }
         return Result.success(null);
     }
 
@@ -54,7 +97,7 @@ public class PricingServiceImpl implements PricingService {
             return Result.failure("Error: Pricing component does not exist.");
         }
 
-        var movie = movieRepository.findByTitle(movieTitle)
+        var movie = movieRepository.findWithPricingComponentsByTitle(movieTitle)
                 .orElse(null);
         if (movie == null) {
             return Result.failure("Error: Movie does not exist.");
@@ -62,6 +105,7 @@ public class PricingServiceImpl implements PricingService {
 
         movie.getPricingComponents().add(pricing);
         movieRepository.save(movie);
+        eventPublisher.publishEvent(new PricingComponentAttachedEvent(PricingTarget.MOVIE, movie.getId()));
 
         return Result.success(null);
     }
@@ -74,7 +118,7 @@ public class PricingServiceImpl implements PricingService {
             return Result.failure("Error: Pricing component does not exist.");
         }
 
-        var room = roomRepository.findByName(roomName)
+        var room = roomRepository.findWithPricingComponentsByName(roomName)
                 .orElse(null);
         if (room == null) {
             return Result.failure("Error: Room does not exist.");
@@ -82,6 +126,7 @@ public class PricingServiceImpl implements PricingService {
 
         room.getPricingComponents().add(pricing);
         roomRepository.save(room);
+        eventPublisher.publishEvent(new PricingComponentAttachedEvent(PricingTarget.ROOM, room.getId()));
 
         return Result.success(null);
     }
@@ -97,7 +142,8 @@ public class PricingServiceImpl implements PricingService {
             return Result.failure("Error: Pricing component does not exist.");
         }
 
-        var screening = screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime)
+        var screening = screeningRepository
+                .findWithPricingComponentsByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime)
                 .orElse(null);
         if (screening == null) {
             return Result.failure("Error: Screening does not exist.");
@@ -105,6 +151,7 @@ public class PricingServiceImpl implements PricingService {
 
         screening.getPricingComponents().add(pricing);
         screeningRepository.save(screening);
+        eventPublisher.publishEvent(new PricingComponentAttachedEvent(PricingTarget.SCREENING, screening.getId()));
 
         return Result.success(null);
     }
@@ -114,30 +161,119 @@ public class PricingServiceImpl implements PricingService {
                                           String roomName,
                                           LocalDateTime startDateTime,
                                           List<String> seats) {
+        Optional<PricingPlan> cachedPlan = priceCache.findPlan(movieTitle, roomName, startDateTime);
+        if (cachedPlan.isPresent()) {
+            return priceSeats(cachedPlan.get(), seats);
+        }
+
         var screening = screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startDateTime)
                 .orElse(null);
         if (screening == null) {
             return Result.failure("Error: Screening does not exist.");
         }
 
-        int totalPrice = basePrice
-                + calculatePricingComponents(screening.getMovie().getPricingComponents())
-                + calculatePricingComponents(screening.getRoom().getPricingComponents())
-                + calculatePricingComponents(screening.getPricingComponents());
+        return priceSeats(getPlan(screening), seats);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Result<List<PriceQuoteDto>> quotePrices(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return Result.failure("Error: The end of the range must be after its start.");
+        }
 
-        totalPrice *= seats.size();
+        int basePrice = pricingConfigurationCache.getBasePrice();
+        List<Screening> screenings = screeningRepository.findWithMovieAndRoomByStartTimeRange(from, to);
+        loadPricingComponents(screenings);
+        List<PriceQuoteDto> quotes = new ArrayList<>();
+        for (Screening screening : screenings) {
+            quotes.add(new PriceQuoteDto(screening.getMovie().getTitle(), screening.getRoom().getName(),
+                    screening.getStartTime(), priceCache.getPlan(screening, this::compileFetchedPlan)
+                    .rowPrices(basePrice, screening.getRoom().getRows())));
+        }
+        return Result.success(quotes);
+    }
 
+    /**
+     * Loads the pricing components of the screenings' movies, rooms and the screenings themselves with one
+     * query per set, into the entities already loaded in this transaction.
+     *
+     * @param screenings The screenings loaded with their movie and room.
+     */
+    private void loadPricingComponents(List<Screening> screenings) {
+        if (screenings.isEmpty()) {
+            return;
+        }
+        movieRepository.findWithPricingComponentsByIdIn(
+                screenings.stream().map(screening -> screening.getMovie().getId()).collect(Collectors.toSet()));
+        roomRepository.findWithPricingComponentsByIdIn(
+                screenings.stream().map(screening -> screening.getRoom().getId()).collect(Collectors.toSet()));
+        screeningRepository.findWithPricingComponentsByIdIn(
+                screenings.stream().map(Screening::getId).collect(Collectors.toSet()));
+    }
+
+    @Override
+    public int calculateSeatPrice(Screening screening, int row) {
+        return getPlan(screening).seatPrice(pricingConfigurationCache.getBasePrice(), row);
+    }
+
+    /**
+     * Prices the given seats with a screening's plan. Seats are only parsed if the plan has row tiers.
+     *
+     * @param plan  The pricing plan of the screening.
+     * @param seats The seats in {@code "row,column"} form.
+     * @return A {@code Result} containing the total price, or an error message if a seat cannot be parsed.
+     */
+    private Result<Integer> priceSeats(PricingPlan plan, List<String> seats) {
+        int basePrice = pricingConfigurationCache.getBasePrice();
+        if (!plan.dependsOnRow()) {
+            return Result.success(plan.seatPrice(basePrice, 0) * seats.size());
+        }
+
+        int totalPrice = 0;
+        for (String seat : seats) {
+            Optional<Seat> parsedSeat = Seat.parse(seat);
+            if (parsedSeat.isEmpty()) {
+                return Result.failure("Error: Invalid seat format. Use 'row,column'.");
+            }
+            totalPrice += plan.seatPrice(basePrice, parsedSeat.get().getRow());
+        }
         return Result.success(totalPrice);
     }
 
     /**
-     * Calculates the total additional pricing from a collection of pricing components.
+     * Returns the cached pricing plan of a screening, compiling it on first use.
+     *
+     * @param screening The screening.
+     * @return The pricing plan of the screening.
+     */
+    private PricingPlan getPlan(Screening screening) {
+        return priceCache.getPlan(screening, this::compilePlan);
+    }
+
+    /**
+     * Compiles the pricing plan of a screening, loading its pricing components with a single query.
+     *
+     * @param screening The screening whose plan is compiled.
+     * @return The compiled pricing plan.
+     */
+    private PricingPlan compilePlan(Screening screening) {
+        return PricingPlan.compile(screening.getStartTime(),
+                pricingRepository.findComponentsOfScreening(screening.getId()));
+    }
+
+    /**
+     * Compiles the pricing plan of a screening from the components already loaded for its movie,
+     * its room and the screening itself.
      *
-     * @param pricingComponents The collection of pricing components to calculate.
-     * @return The total additional price contributed by the pricing components.
+     * @param screening The screening whose plan is compiled.
+     * @return The compiled pricing plan.
      */
-    private int calculatePricingComponents(Collection<Pricing> pricingComponents) {
-        return pricingComponents.stream().mapToInt(Pricing::getAmount).sum();
+    private PricingPlan compileFetchedPlan(Screening screening) {
+        List<Pricing> components = new ArrayList<>(screening.getMovie().getPricingComponents());
+        components.addAll(screening.getRoom().getPricingComponents());
+        components.addAll(screening.getPricingComponents());
+        return PricingPlan.compile(screening.getStartTime(), components);
     }
 
 }
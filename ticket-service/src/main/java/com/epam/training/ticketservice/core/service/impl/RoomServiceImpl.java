@@ -1,11 +1,12 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.RoomMapper;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.repository.BookingRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
 import com.epam.training.ticketservice.core.service.RoomService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,7 +18,9 @@ public class RoomServiceImpl implements RoomService {
 
     private final RoomRepository roomRepository;
 
-    private final ObjectMapper objectMapper;
+    private final BookingRepository bookingRepository;
+
+    private final RoomMapper roomMapper;
 
     private final UserServiceImpl userService;
 
@@ -33,13 +36,13 @@ public class RoomServiceImpl implements RoomService {
         }
 
         Room room = roomRepository.save(new Room(name, rows, columns));
-        return Result.success(objectMapper.convertValue(room, RoomDto.class));
+        return Result.success(roomMapper.toDto(room));
     }
 
     @Override
     public Result<List<RoomDto>> getRooms() {
         List<RoomDto> rooms = roomRepository.findAll().stream()
-                .map(room -> objectMapper.convertValue(room, RoomDto.class))
+                .map(room -> roomMapper.toDto(room))
                 .toList();
 
         return rooms.isEmpty()
@@ -56,10 +59,14 @@ public class RoomServiceImpl implements RoomService {
 
         return roomRepository.findByName(name)
                 .map(room -> {
+                    boolean resized = room.getRows() != rows || room.getColumns() != columns;
+                    if (resized && bookingRepository.existsByScreeningRoom(room)) {
+                        return Result.<RoomDto>failure("Error: Room cannot be resized while it has bookings.");
+                    }
                     room.setRows(rows);
                     room.setColumns(columns);
                     roomRepository.save(room);
-                    return Result.success(objectMapper.convertValue(room, RoomDto.class));
+                    return Result.success(roomMapper.toDto(room));
                 })
                 .orElseGet(() -> Result.failure("Error: Room does not exist."));
     }
@@ -74,7 +81,7 @@ public class RoomServiceImpl implements RoomService {
         return roomRepository.findByName(name)
                 .map(room -> {
                     roomRepository.delete(room);
-                    return Result.success(objectMapper.convertValue(room, RoomDto.class));
+                    return Result.success(roomMapper.toDto(room));
                 })
                 .orElseGet(() -> Result.failure("Error: Room does not exist."));
     }
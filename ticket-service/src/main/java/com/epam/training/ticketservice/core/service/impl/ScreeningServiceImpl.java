@@ -1,38 +1,86 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.ScreeningMapper;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.dto.ScheduleGenerationDto;
 import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningImportDto;
+import com.epam.training.ticketservice.core.pricing.ScreeningDeletedEvent;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
 import com.epam.training.ticketservice.core.repository.ScreeningRepository;
+import com.epam.training.ticketservice.core.schedule.RoomSchedule;
+import com.epam.training.ticketservice.core.schedule.RoomScheduleRegistry;
+import com.epam.training.ticketservice.core.schedule.ScheduleConflict;
+import com.epam.training.ticketservice.core.schedule.ScheduleGenerator;
+import com.epam.training.ticketservice.core.schedule.ScheduleImportLine;
+import com.epam.training.ticketservice.core.schedule.ScheduledScreening;
 import com.epam.training.ticketservice.core.service.ScreeningService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ScreeningServiceImpl implements ScreeningService {
 
+    /**
+     * The format of the start times in schedule files.
+     */
+    private static final DateTimeFormatter START_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /**
+     * The number of schedule file lines imported in one transaction.
+     */
+    static final int IMPORT_BATCH_SIZE = 500;
+
     private final ScreeningRepository screeningRepository;
 
     private final MovieRepository movieRepository;
 
     private final RoomRepository roomRepository;
 
-    private final ObjectMapper objectMapper;
+    private final ScreeningMapper screeningMapper;
 
     private final UserServiceImpl userService;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final RoomScheduleRegistry roomScheduleRegistry;
+
+    private final ScheduleGenerator scheduleGenerator;
+
+    private final TransactionTemplate transactionTemplate;
+
     @Override
+    @Transactional
     public Result<ScreeningDto> createScreening(String movieTitle, String roomName, LocalDateTime startTime) {
         Result<Void> adminCheck = userService.checkAdminPrivileges();
         if (!adminCheck.isSuccess()) {
@@ -49,64 +97,384 @@ public class ScreeningServiceImpl implements ScreeningService {
             return Result.failure("Error: Room does not exist.");
         }
 
-        Result<Void> scheduleCheck = checkScheduleConflicts(room.get(), startTime);
+        RoomSchedule schedule = roomScheduleRegistry.getSchedule(room.get());
+        Result<Void> scheduleCheck = reserveTimeSlot(schedule, movie.get(), startTime);
         if (!scheduleCheck.isSuccess()) {
             return Result.failure(scheduleCheck.getMessage());
         }
 
         Screening screening = new Screening(movie.get(), room.get(), startTime);
-        screeningRepository.save(screening);
+        List<String> conflicts = new ArrayList<>();
+        List<Screening> confirmed = confirmTimeSlots(Map.of(room.get(), schedule), List.of(screening),
+                (rejected, message) -> conflicts.add(message));
+        if (confirmed.isEmpty()) {
+            return Result.failure(conflicts.get(0));
+        }
+        try {
+            screeningRepository.saveAndFlush(screening);
+        } catch (RuntimeException e) {
+            schedule.remove(startTime);
+            throw e;
+        }
 
-        return Result.success(objectMapper.convertValue(screening, ScreeningDto.class));
+        return Result.success(screeningMapper.toDto(screening));
     }
 
     /**
-     * Checks for scheduling conflicts for a room at a given start time.
+     * Checks the schedule of a room for conflicts at a given start time and reserves the time slot
+     * of the screening if there are none, so no concurrent request can take it in the meantime.
      *
-     * @param room      The room for the screening.
+     * @param schedule  The schedule of the room for the screening.
+     * @param movie     The movie of the screening.
      * @param startTime The start time of the screening.
      * @return A {@code Result} indicating success if no conflicts exist, or an error message if conflicts are found.
      */
-    private Result<Void> checkScheduleConflicts(Room room, LocalDateTime startTime) {
-        List<Screening> existingScreenings = screeningRepository.findByRoom(room);
-        for (Screening screening : existingScreenings) {
-            LocalDateTime existingStart = screening.getStartTime();
-            LocalDateTime existingEnd = existingStart.plusMinutes(screening.getMovie().getLength());
-            LocalDateTime breakEnd = existingEnd.plusMinutes(10);
-
-            if (isOverlapping(startTime, existingStart, existingEnd)) {
-                return Result.failure("There is an overlapping screening");
+    private Result<Void> reserveTimeSlot(RoomSchedule schedule, Movie movie, LocalDateTime startTime) {
+        return toResult(schedule.tryAdd(startTime, movie.getLength()));
+    }
+
+    /**
+     * Turns the outcome of a schedule check into a {@code Result}.
+     *
+     * @param conflict The conflict found, or empty if there is none.
+     * @return A {@code Result} indicating success if there is no conflict, or the error message describing it.
+     */
+    private Result<Void> toResult(Optional<ScheduleConflict> conflict) {
+        if (conflict.isEmpty()) {
+            return Result.success(null);
+        }
+        if (conflict.get() == ScheduleConflict.OVERLAPPING) {
+            return Result.failure("There is an overlapping screening");
+        }
+        return Result.failure("This would start in the break period after another screening in this room");
+    }
+
+    @Override
+    public Result<ScreeningImportDto> importScreenings(Path file) {
+        Result<Void> adminCheck = userService.checkAdminPrivileges();
+        if (!adminCheck.isSuccess()) {
+            return Result.failure(adminCheck.getMessage());
+        }
+
+        Map<Integer, String> errors = new ConcurrentSkipListMap<>();
+        List<ScheduleImportLine> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        int importedCount = 0;
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                Result<ScheduleImportLine> parsed = parseLine(lineNumber, line);
+                if (!parsed.isSuccess()) {
+                    errors.put(lineNumber, parsed.getMessage());
+                    continue;
+                }
+                batch.add(parsed.getData());
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importedCount += importBatch(batch, errors);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            if (lineNumber == 0) {
+                return Result.failure("Error: Cannot read file '" + file + "'.");
             }
+            errors.put(lineNumber + 1, "Error: Cannot read the rest of the file.");
+        }
+        importedCount += importBatch(batch, errors);
+
+        List<String> report = errors.entrySet().stream()
+                .map(error -> String.format("Line %d: %s", error.getKey(), error.getValue()))
+                .collect(Collectors.toList());
+        return Result.success(new ScreeningImportDto(importedCount, report));
+    }
+
+    /**
+     * Creates the screenings of a batch of schedule file lines in a transaction of its own, so neither the
+     * lines nor the saved screenings of the whole file are held at once, and the rooms are locked only
+     * while their batch is saved. Lines which cannot be scheduled are reported.
+     *
+     * @param lines  The parsed lines of the batch.
+     * @param errors The errors of the rejected lines, keyed by line number.
+     * @return The number of screenings created.
+     */
+    private int importBatch(List<ScheduleImportLine> lines, Map<Integer, String> errors) {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+        Integer importedCount = transactionTemplate.execute(status -> {
+            Map<String, Movie> movies = movieRepository
+                    .findByTitleIn(lines.stream().map(ScheduleImportLine::getMovieTitle).collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Movie::getTitle, Function.identity()));
+            Map<String, Room> rooms = roomRepository
+                    .findByNameIn(lines.stream().map(ScheduleImportLine::getRoomName).collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Room::getName, Function.identity()));
 
-            if (isInBreakPeriod(startTime, existingEnd, breakEnd)) {
-                return Result.failure("This would start in the break period after another screening in this room");
+            Map<Room, List<Screening>> screeningsByRoom = new LinkedHashMap<>();
+            Map<Screening, Integer> lineNumbers = new IdentityHashMap<>();
+            for (ScheduleImportLine line : lines) {
+                Movie movie = movies.get(line.getMovieTitle());
+                Room room = rooms.get(line.getRoomName());
+                if (movie == null) {
+                    errors.put(line.getLineNumber(), "Error: Movie does not exist.");
+                } else if (room == null) {
+                    errors.put(line.getLineNumber(), "Error: Room does not exist.");
+                } else {
+                    Screening screening = new Screening(movie, room, line.getStartTime());
+                    screeningsByRoom.computeIfAbsent(room, key -> new ArrayList<>()).add(screening);
+                    lineNumbers.put(screening, line.getLineNumber());
+                }
             }
+
+            Map<Room, RoomSchedule> schedules = loadSchedules(screeningsByRoom.keySet());
+            BiConsumer<Screening, String> onConflict =
+                    (screening, message) -> errors.put(lineNumbers.get(screening), message);
+            List<Screening> screenings = confirmTimeSlots(schedules,
+                    reserveTimeSlots(schedules, screeningsByRoom, onConflict), onConflict);
+            saveScreenings(schedules, screenings);
+            return screenings.size();
+        });
+        return importedCount == null ? 0 : importedCount;
+    }
+
+    /**
+     * Parses a {@code movie title,room name,yyyy-MM-dd HH:mm} line of a schedule file. A field may be
+     * enclosed in double quotes to contain commas, with a double quote inside written twice.
+     *
+     * @param lineNumber The number of the line in the file.
+     * @param line       The content of the line.
+     * @return A {@code Result} containing the parsed line, or an error message if the line is malformed.
+     */
+    private Result<ScheduleImportLine> parseLine(int lineNumber, String line) {
+        Optional<List<String>> fields = splitFields(line);
+        if (fields.isEmpty()) {
+            return Result.failure("Error: Quoted fields must be enclosed in double quotes as a whole.");
+        }
+        if (fields.get().size() != 3) {
+            return Result.failure("Error: Expected 'movie title,room name,yyyy-MM-dd HH:mm'.");
+        }
+        try {
+            LocalDateTime startTime = LocalDateTime.parse(fields.get().get(2).trim(), START_TIME_FORMAT);
+            return Result.success(new ScheduleImportLine(lineNumber, fields.get().get(0), fields.get().get(1),
+                    startTime));
+        } catch (DateTimeParseException e) {
+            return Result.failure("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.");
         }
-        return Result.success(null);
     }
 
     /**
-     * Checks if a given start time overlaps with an existing screening.
+     * Splits a line of a schedule file at the commas outside double quotes. Unquoted fields are trimmed,
+     * while quoted fields are kept as they are inside the quotes.
      *
-     * @param startTime     The start time to check.
-     * @param existingStart The start time of the existing screening.
-     * @param existingEnd   The end time of the existing screening.
-     * @return {@code true} if the start time overlaps with the existing screening, otherwise {@code false}.
+     * @param line The content of the line.
+     * @return The fields of the line, or empty if a quote is not closed or is followed by more characters.
      */
-    private boolean isOverlapping(LocalDateTime startTime, LocalDateTime existingStart, LocalDateTime existingEnd) {
-        return !startTime.isBefore(existingStart) && startTime.isBefore(existingEnd);
+    private static Optional<List<String>> splitFields(String line) {
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int start = position;
+            while (start < line.length() && line.charAt(start) == ' ') {
+                start++;
+            }
+            int end;
+            if (start < line.length() && line.charAt(start) == '"') {
+                StringBuilder field = new StringBuilder();
+                end = start + 1;
+                while (true) {
+                    int quote = line.indexOf('"', end);
+                    if (quote < 0) {
+                        return Optional.empty();
+                    }
+                    field.append(line, end, quote);
+                    if (quote + 1 < line.length() && line.charAt(quote + 1) == '"') {
+                        field.append('"');
+                        end = quote + 2;
+                    } else {
+                        end = quote + 1;
+                        break;
+                    }
+                }
+                while (end < line.length() && line.charAt(end) == ' ') {
+                    end++;
+                }
+                if (end < line.length() && line.charAt(end) != ',') {
+                    return Optional.empty();
+                }
+                fields.add(field.toString());
+            } else {
+                end = line.indexOf(',', start);
+                end = end < 0 ? line.length() : end;
+                String field = line.substring(start, end);
+                if (field.indexOf('"') >= 0) {
+                    return Optional.empty();
+                }
+                fields.add(field.trim());
+            }
+            if (end >= line.length()) {
+                return Optional.of(fields);
+            }
+            position = end + 1;
+        }
+    }
+
+    @Override
+    @Transactional
+    public Result<ScheduleGenerationDto> generateSchedule(LocalDate firstDay, LocalDate lastDay,
+                                                          Map<String, Integer> screeningCounts) {
+        Result<Void> adminCheck = userService.checkAdminPrivileges();
+        if (!adminCheck.isSuccess()) {
+            return Result.failure(adminCheck.getMessage());
+        }
+
+        if (lastDay.isBefore(firstDay)) {
+            return Result.failure("Error: The last day must not be before the first day.");
+        }
+
+        List<Movie> movies = movieRepository.findByTitleIn(screeningCounts.keySet());
+        if (movies.size() != screeningCounts.size()) {
+            return Result.failure("Error: Movie does not exist.");
+        }
+
+        List<Room> rooms = roomRepository.findAll();
+        if (rooms.isEmpty()) {
+            return Result.failure("There are no rooms at the moment");
+        }
+
+        Map<Movie, Integer> targets = movies.stream()
+                .collect(Collectors.toMap(Function.identity(), movie -> screeningCounts.get(movie.getTitle())));
+        Map<Room, RoomSchedule> schedules = loadSchedules(rooms);
+        Map<Room, List<Screening>> screeningsByRoom = scheduleGenerator
+                .generate(schedules, targets, firstDay, lastDay).stream()
+                .collect(Collectors.groupingBy(Screening::getRoom));
+        BiConsumer<Screening, String> ignoreConflict = (screening, message) -> { };
+        List<Screening> screenings = confirmTimeSlots(schedules,
+                reserveTimeSlots(schedules, screeningsByRoom, ignoreConflict), ignoreConflict);
+        saveScreenings(schedules, screenings);
+
+        Map<String, Long> scheduledCounts = screenings.stream()
+                .collect(Collectors.groupingBy(screening -> screening.getMovie().getTitle(), Collectors.counting()));
+        Map<String, Integer> unscheduledCounts = new LinkedHashMap<>();
+        screeningCounts.forEach((title, count) -> {
+            int unscheduled = count - scheduledCounts.getOrDefault(title, 0L).intValue();
+            if (unscheduled > 0) {
+                unscheduledCounts.put(title, unscheduled);
+            }
+        });
+        return Result.success(new ScheduleGenerationDto(screenings.size(), unscheduledCounts));
+    }
+
+    /**
+     * Loads the schedule of every room one after the other, so the parallel checks work in memory only.
+     *
+     * @param rooms The rooms to load.
+     * @return The schedules, keyed by room.
+     */
+    private Map<Room, RoomSchedule> loadSchedules(Collection<Room> rooms) {
+        Map<Room, RoomSchedule> schedules = new HashMap<>();
+        rooms.forEach(room -> schedules.put(room, roomScheduleRegistry.getSchedule(room)));
+        return schedules;
+    }
+
+    /**
+     * Reserves the time slots of new screenings under the same rules as a single new screening.
+     * The screenings of a room are checked in order, so they are checked against each other as well as
+     * against the screenings already scheduled. Rooms are independent of each other, so they are checked
+     * in parallel.
+     *
+     * @param schedules        The schedules of the rooms.
+     * @param screeningsByRoom The new screenings, keyed by room.
+     * @param onConflict       Called with every rejected screening and the reason, possibly from several threads.
+     * @return The screenings whose time slots have been reserved.
+     */
+    private List<Screening> reserveTimeSlots(Map<Room, RoomSchedule> schedules,
+                                             Map<Room, List<Screening>> screeningsByRoom,
+                                             BiConsumer<Screening, String> onConflict) {
+        return screeningsByRoom.entrySet().parallelStream()
+                .flatMap(entry -> entry.getValue().stream().filter(screening -> {
+                    Result<Void> scheduleCheck = reserveTimeSlot(schedules.get(entry.getKey()),
+                            screening.getMovie(), screening.getStartTime());
+                    if (!scheduleCheck.isSuccess()) {
+                        onConflict.accept(screening, scheduleCheck.getMessage());
+                    }
+                    return scheduleCheck.isSuccess();
+                }))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Confirms time slots reserved in memory against the screenings stored in the database, as the in-memory
+     * schedules do not see screenings created on other nodes. Each room's row is locked for the rest of the
+     * transaction first, in id order, so no other node can add a screening to it between this check and the
+     * save; then the stored screenings around the new ones are loaded with one range query per room.
+     * Stored screenings are added to the in-memory schedule as well, and the time slots of rejected
+     * screenings are released.
+     *
+     * @param schedules  The schedules of the rooms the time slots are reserved in.
+     * @param screenings The screenings whose time slots have been reserved in memory.
+     * @param onConflict Called with every rejected screening and the reason.
+     * @return The screenings which conflict with no stored screening.
+     */
+    private List<Screening> confirmTimeSlots(Map<Room, RoomSchedule> schedules, List<Screening> screenings,
+                                             BiConsumer<Screening, String> onConflict) {
+        if (screenings.isEmpty()) {
+            return screenings;
+        }
+        Map<Room, List<Screening>> screeningsByRoom = screenings.stream()
+                .collect(Collectors.groupingBy(Screening::getRoom, IdentityHashMap::new, Collectors.toList()));
+        List<Room> rooms = new ArrayList<>(screeningsByRoom.keySet());
+        rooms.sort(Comparator.comparing(Room::getId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        int maxLength = movieRepository.findMaxLength().orElse(0);
+
+        List<Screening> confirmed = new ArrayList<>();
+        for (Room room : rooms) {
+            List<Screening> newScreenings = screeningsByRoom.get(room);
+            roomRepository.lockById(room.getId());
+            newScreenings.sort(Comparator.comparing(Screening::getStartTime));
+            LocalDateTime from = newScreenings.get(0).getStartTime()
+                    .minusMinutes(maxLength + RoomSchedule.BREAK_MINUTES);
+            LocalDateTime to = newScreenings.stream()
+                    .map(screening -> screening.getStartTime()
+                            .plusMinutes(screening.getMovie().getLength() + RoomSchedule.BREAK_MINUTES))
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow();
+
+            List<ScheduledScreening> storedScreenings = screeningRepository.findScheduleOfRoomBetween(room, from, to);
+            RoomSchedule stored = new RoomSchedule();
+            storedScreenings.forEach(screening -> stored.add(screening.getStartTime(), screening.getLength()));
+            RoomSchedule schedule = schedules.get(room);
+            for (Screening screening : newScreenings) {
+                Result<Void> scheduleCheck =
+                        toResult(stored.tryAdd(screening.getStartTime(), screening.getMovie().getLength()));
+                if (scheduleCheck.isSuccess()) {
+                    confirmed.add(screening);
+                } else {
+                    schedule.remove(screening.getStartTime());
+                    onConflict.accept(screening, scheduleCheck.getMessage());
+                }
+            }
+            storedScreenings.forEach(screening -> schedule.add(screening.getStartTime(), screening.getLength()));
+        }
+        return confirmed;
     }
 
     /**
-     * Checks if a given start time falls within the break period after an existing screening.
+     * Saves screenings in batches, releasing their time slots again if that fails.
      *
-     * @param startTime     The start time to check.
-     * @param existingEnd   The end time of the existing screening.
-     * @param breakEnd      The end of the break period.
-     * @return {@code true} if the start time falls within the break period, otherwise {@code false}.
+     * @param schedules  The schedules of the rooms the time slots are reserved in.
+     * @param screenings The screenings to save.
      */
-    private boolean isInBreakPeriod(LocalDateTime startTime, LocalDateTime existingEnd, LocalDateTime breakEnd) {
-        return !startTime.isBefore(existingEnd) && startTime.isBefore(breakEnd);
+    private void saveScreenings(Map<Room, RoomSchedule> schedules, List<Screening> screenings) {
+        try {
+            screeningRepository.saveAllAndFlush(screenings);
+        } catch (RuntimeException e) {
+            screenings.forEach(screening -> schedules.get(screening.getRoom()).remove(screening.getStartTime()));
+            throw e;
+        }
     }
 
     @Override
@@ -118,7 +486,7 @@ public class ScreeningServiceImpl implements ScreeningService {
         }
 
         List<ScreeningDto> screeningDtos = screenings.stream()
-                .map(screening -> objectMapper.convertValue(screening, ScreeningDto.class))
+                .map(screening -> screeningMapper.toDto(screening))
                 .collect(Collectors.toList());
 
         return Result.success(screeningDtos);
@@ -136,7 +504,9 @@ public class ScreeningServiceImpl implements ScreeningService {
                 .findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime)
                 .map(screening -> {
                     screeningRepository.delete(screening);
-                    return Result.success(objectMapper.convertValue(screening, ScreeningDto.class));
+                    roomScheduleRegistry.remove(screening);
+                    eventPublisher.publishEvent(new ScreeningDeletedEvent(screening.getId()));
+                    return Result.success(screeningMapper.toDto(screening));
                 })
                 .orElseGet(() -> Result.failure("Error: Screening does not exist."));
     }
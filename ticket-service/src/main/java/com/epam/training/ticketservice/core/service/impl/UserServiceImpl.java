@@ -1,17 +1,19 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.UserMapper;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.model.dto.BookingDto;
 import com.epam.training.ticketservice.core.model.dto.UserDto;
 import com.epam.training.ticketservice.core.model.enums.Role;
 import com.epam.training.ticketservice.core.repository.UserRepository;
 import com.epam.training.ticketservice.core.service.UserService;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.Getter;
+import com.epam.training.ticketservice.core.session.SessionContext;
+import com.epam.training.ticketservice.core.session.SessionStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
@@ -24,15 +26,15 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
 
-    private final ObjectMapper objectMapper;
+    private final UserMapper userMapper;
 
-    private BookingServiceImpl bookingService;
+    private final SessionStore sessionStore;
 
-    /**
-     * The currently logged-in user. Null if no user is logged in.
-     */
-    @Getter
-    private UserDto loggedInUser = null;
+    private final SessionContext sessionContext;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private BookingServiceImpl bookingService;
 
     /**
      * Sets the booking service lazily to avoid circular dependencies.
@@ -46,6 +48,8 @@ public class UserServiceImpl implements UserService {
 
     /**
      * Handles the internal sign-in logic, supporting privileged and non-privileged modes.
+     * The password is verified against its hash only here; the calls made within the opened session
+     * resolve the user from the session store without hashing again.
      *
      * @param username   The username of the user trying to sign in.
      * @param password   The user's password.
@@ -53,19 +57,25 @@ public class UserServiceImpl implements UserService {
      * @return A {@code Result} containing the authenticated {@code UserDto} or an error message if sign-in fails.
      */
     private Result<UserDto> signInInternal(String username, String password, boolean privileged) {
-        Optional<User> userEntity = userRepository.findByUsernameAndPassword(username, password);
+        Optional<User> userEntity = userRepository.findByUsername(username)
+                .filter(user -> passwordEncoder.matches(password, user.getPassword()));
 
         if (userEntity.isPresent()) {
             User user = userEntity.get();
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(password));
+                userRepository.save(user);
+            }
 
             if (!privileged && user.getRole().toString().equals("ADMIN")) {
                 return Result.failure("Error: Admin privileges are required.");
             }
 
-            UserDto userDto = objectMapper.convertValue(user, UserDto.class);
+            UserDto userDto = userMapper.toDto(user);
             String role = privileged ? "ADMIN" : user.getRole().toString();
             userDto.setRole(role);
-            loggedInUser = userDto;
+            sessionContext.getToken().ifPresent(sessionStore::remove);
+            sessionContext.bind(sessionStore.create(userDto));
 
             return Result.success(userDto);
         } else {
@@ -89,18 +99,31 @@ public class UserServiceImpl implements UserService {
             return Result.failure("Error: Username '" + username + "' is already taken.");
         }
 
-        User user = new User(username, password, role);
+        User user = new User(username, passwordEncoder.encode(password), role);
         userRepository.save(user);
-        return Result.success(objectMapper.convertValue(user, UserDto.class));
+        return Result.success(userMapper.toDto(user));
     }
 
     @Override
     public void signOut() {
-        loggedInUser = null;
+        sessionContext.getToken().ifPresent(sessionStore::remove);
+        sessionContext.clear();
+    }
+
+    /**
+     * Resolves the user of the current caller's session.
+     *
+     * @return The signed-in user, or null if the caller has not signed in or the session has expired.
+     */
+    public UserDto getLoggedInUser() {
+        return sessionContext.getToken()
+                .flatMap(sessionStore::find)
+                .orElse(null);
     }
 
     @Override
     public String describe() {
+        UserDto loggedInUser = getLoggedInUser();
         if (loggedInUser == null) {
             return "You are not signed in";
         }
@@ -152,6 +175,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Result<Void> checkAdminPrivileges() {
+        UserDto loggedInUser = getLoggedInUser();
         return (loggedInUser != null && "ADMIN".equals(loggedInUser.getRole()))
                 ? Result.success(null)
                 : Result.failure("Error: Admin privileges are required.");
@@ -159,7 +183,8 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Result<UserDto> getAuthenticatedUser(String username) {
-        if (username == null || !username.equals(loggedInUser.getUsername())) {
+        UserDto loggedInUser = getLoggedInUser();
+        if (username == null || loggedInUser == null || !username.equals(loggedInUser.getUsername())) {
             return Result.failure("Error: User is not authenticated.");
         }
         return Result.success(loggedInUser);
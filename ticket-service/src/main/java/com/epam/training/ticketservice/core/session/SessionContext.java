@@ -0,0 +1,42 @@
+package com.epam.training.ticketservice.core.session;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Holds the session token of the caller served by the current thread. An entry point serving many callers
+ * binds the token of the caller before calling the services and clears it afterwards. The shell serves
+ * a single caller from a single thread, so its token simply stays bound from sign in to sign out.
+ */
+@Component
+public class SessionContext {
+
+    private final ThreadLocal<String> token = new ThreadLocal<>();
+
+    /**
+     * Returns the session token of the current caller.
+     *
+     * @return An {@code Optional} containing the token, or empty if the caller has not signed in.
+     */
+    public Optional<String> getToken() {
+        return Optional.ofNullable(token.get());
+    }
+
+    /**
+     * Makes a session the one of the current caller.
+     *
+     * @param sessionToken The token of the session.
+     */
+    public void bind(String sessionToken) {
+        token.set(sessionToken);
+    }
+
+    /**
+     * Forgets the session of the current caller.
+     */
+    public void clear() {
+        token.remove();
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.epam.training.ticketservice.core.session;
+
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the signed-in users, keyed by an unguessable session token. A session which has not been used
+ * for longer than the idle timeout is dropped, either when it is next looked up or by a periodic sweep.
+ */
+@Component
+public class SessionStore {
+
+    /**
+     * The number of random bytes in a session token.
+     */
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * The time a session stays valid without being used, in milliseconds.
+     */
+    private final long idleTimeoutMillis;
+
+    /**
+     * The source of the current time in milliseconds.
+     */
+    private final LongSupplier clock;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * The active sessions, keyed by token.
+     */
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor to create the store with the configured idle timeout.
+     *
+     * @param idleTimeoutMinutes The time a session stays valid without being used, in minutes.
+     */
+    @Autowired
+    public SessionStore(@Value("${ticket-service.session.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this(idleTimeoutMinutes * 60_000, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor to create the store with an explicit time source.
+     *
+     * @param idleTimeoutMillis The time a session stays valid without being used, in milliseconds.
+     * @param clock             The source of the current time in milliseconds.
+     */
+    SessionStore(long idleTimeoutMillis, LongSupplier clock) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Opens a session for a signed-in user.
+     *
+     * @param user The signed-in user.
+     * @return The token of the new session.
+     */
+    public String create(UserDto user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        sessions.put(token, new Session(user, clock.getAsLong()));
+        return token;
+    }
+
+    /**
+     * Looks up the user of a session and marks the session as used.
+     *
+     * @param token The token of the session.
+     * @return An {@code Optional} containing the user of the session, or empty if the session does not exist
+     *         or has been idle for too long.
+     */
+    public Optional<UserDto> find(String token) {
+        Session session = sessions.get(token);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long now = clock.getAsLong();
+        if (isIdle(session, now)) {
+            sessions.remove(token, session);
+            return Optional.empty();
+        }
+        session.lastAccess = now;
+        return Optional.of(session.user);
+    }
+
+    /**
+     * Closes a session.
+     *
+     * @param token The token of the session.
+     */
+    public void remove(String token) {
+        sessions.remove(token);
+    }
+
+    /**
+     * Returns the number of open sessions, including idle ones not swept yet.
+     *
+     * @return The number of open sessions.
+     */
+    public int countSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Drops every session which has been idle for longer than the idle timeout.
+     *
+     * @return The number of dropped sessions.
+     */
+    @Scheduled(fixedDelayString = "${ticket-service.session.sweep-millis:60000}")
+    public int evictIdleSessions() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        Iterator<Session> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            if (isIdle(iterator.next(), now)) {
+                iterator.remove();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Checks if a session has been idle for longer than the idle timeout.
+     *
+     * @param session The session to check.
+     * @param now     The current time in milliseconds.
+     * @return {@code true} if the session has expired, otherwise {@code false}.
+     */
+    private boolean isIdle(Session session, long now) {
+        return now - session.lastAccess > idleTimeoutMillis;
+    }
+
+    /**
+     * A signed-in user together with the time the session was last used.
+     */
+    private static final class Session {
+
+        private final UserDto user;
+
+        private volatile long lastAccess;
+
+        private Session(UserDto user, long lastAccess) {
+            this.user = user;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
@@ -1,15 +1,20 @@
 package com.epam.training.ticketservice.ui.command;
 
+import com.epam.training.ticketservice.core.model.Seat;
+import com.epam.training.ticketservice.core.model.dto.SeatAvailabilityDto;
 import com.epam.training.ticketservice.core.service.impl.BookingServiceImpl;
 import com.epam.training.ticketservice.core.service.impl.UserServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 
+import java.io.PrintWriter;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -22,41 +27,132 @@ public class BookingCommand {
 
     private final UserServiceImpl userService;
 
+    private final Terminal terminal;
+
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     @ShellMethod(key = "book", value = "Book tickets for a screening")
     public String bookTickets(String movieTitle, String roomName, String startTime, String seats) {
-        return parseDateTime(startTime)
-                .map(startDateTime -> {
-                    List<String> seatList = parseSeats(seats);
-                    var result = bookingService.createBooking(
-                            getLoggedInUsername(), movieTitle, roomName, startDateTime, seatList);
-                    return result.isSuccess()
-                            ? String.format("Seats booked: %s; the price for this booking is %d HUF",
-                            seatList.stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
-                            result.getData().getPrice())
-                            : result.getMessage();
-                })
-                .orElse("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.");
+        Optional<LocalDateTime> startDateTime = parseDateTime(startTime);
+        if (startDateTime.isEmpty()) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.";
+        }
+
+        Optional<List<Seat>> seatList = parseSeats(seats);
+        if (seatList.isEmpty()) {
+            return "Error: Invalid seat format. Use 'row,column'.";
+        }
+
+        var result = bookingService.createBooking(
+                getLoggedInUsername(), movieTitle, roomName, startDateTime.get(), seatList.get());
+        return result.isSuccess()
+                ? String.format("Seats booked: %s; the price for this booking is %d HUF",
+                seatList.get().stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
+                result.getData().getPrice())
+                : result.getMessage();
     }
 
-    @ShellMethod(key = "list bookings", value = "List all bookings for the current user")
-    public String listBookings() {
-        var result = bookingService.getBookingsByUser(getLoggedInUsername());
+    @ShellMethod(key = "show seats", value = "Show the free and taken seats of a screening")
+    public String showSeats(String movieTitle, String roomName, String startTime) {
+        Optional<LocalDateTime> startDateTime = parseDateTime(startTime);
+        if (startDateTime.isEmpty()) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.";
+        }
 
+        var result = bookingService.getSeatAvailability(movieTitle, roomName, startDateTime.get());
+        return result.isSuccess() ? renderSeats(result.getData()) : result.getMessage();
+    }
+
+    @ShellMethod(key = "find seats", value = "Find the best available adjacent seats of a screening")
+    public String findSeats(String movieTitle, String roomName, String startTime, int count) {
+        Optional<LocalDateTime> startDateTime = parseDateTime(startTime);
+        if (startDateTime.isEmpty()) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.";
+        }
+
+        var result = bookingService.findBestSeats(movieTitle, roomName, startDateTime.get(), count);
         return result.isSuccess()
-                ? result.getData().stream()
-                .map(booking -> String.format(
-                        "Seats %s on %s in room %s starting at %s for %d HUF",
-                        booking.getSeats().stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
-                        booking.getScreening().getMovie().getTitle(),
-                        booking.getScreening().getRoom().getName(),
-                        booking.getScreening().getStartTime().format(dateTimeFormatter),
-                        booking.getPrice()))
-                .collect(Collectors.joining("\n"))
+                ? "Best available seats: " + result.getData().stream()
+                .map(seat -> "(" + seat + ")").collect(Collectors.joining(", "))
                 : result.getMessage();
     }
 
+    @ShellMethod(key = "hold", value = "Hold seats of a screening until the hold is confirmed or expires")
+    public String holdSeats(String movieTitle, String roomName, String startTime, String seats) {
+        Optional<LocalDateTime> startDateTime = parseDateTime(startTime);
+        if (startDateTime.isEmpty()) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.";
+        }
+
+        Optional<List<Seat>> seatList = parseSeats(seats);
+        if (seatList.isEmpty()) {
+            return "Error: Invalid seat format. Use 'row,column'.";
+        }
+
+        var result = bookingService.holdSeats(
+                getLoggedInUsername(), movieTitle, roomName, startDateTime.get(), seatList.get());
+        return result.isSuccess()
+                ? String.format("Seats held: %s until %s; confirm with 'confirm hold %d'",
+                result.getData().getSeats().stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
+                result.getData().getExpiresAt().format(dateTimeFormatter),
+                result.getData().getId())
+                : result.getMessage();
+    }
+
+    @ShellMethod(key = "confirm hold", value = "Book the seats of a hold")
+    public String confirmHold(long holdId) {
+        var result = bookingService.confirmHold(getLoggedInUsername(), holdId);
+        return result.isSuccess()
+                ? String.format("Seats booked: %s; the price for this booking is %d HUF",
+                result.getData().getSeats().stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
+                result.getData().getPrice())
+                : result.getMessage();
+    }
+
+    @ShellMethod(key = "list bookings", value = "List all bookings for the current user")
+    public String listBookings(@ShellOption(value = "--page-size", defaultValue = "50") int pageSize) {
+        var result = bookingService.streamBookingsByUser(getLoggedInUsername(), pageSize);
+        if (!result.isSuccess()) {
+            return result.getMessage();
+        }
+
+        PrintWriter writer = terminal.writer();
+        result.getData().forEach(booking -> writer.println(String.format(
+                "Seats %s on %s in room %s starting at %s for %d HUF",
+                booking.getSeats().stream().map(seat -> "(" + seat + ")").collect(Collectors.joining(", ")),
+                booking.getScreening().getMovie().getTitle(),
+                booking.getScreening().getRoom().getName(),
+                booking.getScreening().getStartTime().format(dateTimeFormatter),
+                booking.getPrice())));
+        writer.flush();
+        return null;
+    }
+
+    private String renderSeats(SeatAvailabilityDto availability) {
+        int rows = availability.getRows();
+        int columns = availability.getColumns();
+        long[] occupancy = availability.getOccupancy();
+        int labelWidth = Integer.toString(rows).length();
+
+        StringBuilder grid = new StringBuilder(64 + rows * (labelWidth + columns + 2));
+        grid.append("Free seats: ").append(availability.getFreeSeats()).append(" of ").append(rows * columns)
+                .append(" ('.' is free, 'X' is taken)");
+        int index = 0;
+        for (int row = 1; row <= rows; row++) {
+            grid.append('\n');
+            for (int limit = 10; limit <= rows; limit *= 10) {
+                if (row < limit) {
+                    grid.append(' ');
+                }
+            }
+            grid.append(row).append(' ');
+            for (int column = 0; column < columns; column++, index++) {
+                grid.append((occupancy[index >>> 6] & (1L << index)) != 0 ? 'X' : '.');
+            }
+        }
+        return grid.toString();
+    }
+
     private Optional<LocalDateTime> parseDateTime(String startTime) {
         try {
             return Optional.of(LocalDateTime.parse(startTime, dateTimeFormatter));
@@ -65,8 +161,16 @@ public class BookingCommand {
         }
     }
 
-    private List<String> parseSeats(String seats) {
-        return Arrays.stream(seats.split(" ")).collect(Collectors.toList());
+    private Optional<List<Seat>> parseSeats(String seats) {
+        List<Seat> seatList = new ArrayList<>();
+        for (String seat : seats.trim().split("\\s+")) {
+            Optional<Seat> parsedSeat = Seat.parse(seat);
+            if (parsedSeat.isEmpty()) {
+                return Optional.empty();
+            }
+            seatList.add(parsedSeat.get());
+        }
+        return Optional.of(seatList);
     }
 
     private String getLoggedInUsername() {
@@ -1,15 +1,24 @@
 package com.epam.training.ticketservice.ui.command;
 
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
+import com.epam.training.ticketservice.core.model.dto.PricingDto;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
 import com.epam.training.ticketservice.core.service.impl.PricingServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
+import java.util.Locale;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @ShellComponent
 @RequiredArgsConstructor
@@ -19,12 +28,49 @@ public class PricingCommand {
 
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     @ShellMethod(key = "create price component", value = "Create a new pricing component")
     public String createPriceComponent(String componentName, int price) {
         var result = pricingService.createPricingComponent(componentName, price);
         return result.isSuccess() ? "Price component created" : result.getMessage();
     }
 
+    @ShellMethod(key = "create price rule", value = "Create a pricing component with a type and conditions")
+    public String createPriceRule(String componentName,
+                                  int amount,
+                                  @ShellOption(value = "--type", defaultValue = "FIXED") String type,
+                                  @ShellOption(value = "--from", defaultValue = ShellOption.NULL) String from,
+                                  @ShellOption(value = "--to", defaultValue = ShellOption.NULL) String to,
+                                  @ShellOption(value = "--day", defaultValue = ShellOption.NULL) String day,
+                                  @ShellOption(value = "--min-row", defaultValue = ShellOption.NULL) Integer minRow,
+                                  @ShellOption(value = "--max-row", defaultValue = ShellOption.NULL) Integer maxRow) {
+        PricingDto rule = new PricingDto(componentName, amount);
+        rule.setMinRow(minRow);
+        rule.setMaxRow(maxRow);
+        try {
+            rule.setType(PricingType.valueOf(type.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return "Error: Invalid pricing type. Use 'FIXED' or 'PERCENTAGE'.";
+        }
+        try {
+            rule.setDayOfWeek(day == null ? null : DayOfWeek.valueOf(day.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return "Error: Invalid day. Use a day of the week, e.g. 'MONDAY'.";
+        }
+        try {
+            rule.setFromTime(from == null ? null : LocalTime.parse(from, timeFormatter));
+            rule.setToTime(to == null ? null : LocalTime.parse(to, timeFormatter));
+        } catch (DateTimeParseException e) {
+            return "Error: Invalid time format. Use 'HH:mm'.";
+        }
+
+        var result = pricingService.createPricingRule(rule);
+        return result.isSuccess() ? "Price rule created" : result.getMessage();
+    }
+
     @ShellMethod(key = "attach price component to movie", value = "Attach a pricing component to a movie")
     public String attachPriceComponentToMovie(String componentName, String movieTitle) {
         var result = pricingService.attachPricingComponentToMovie(componentName, movieTitle);
@@ -59,13 +105,65 @@ public class PricingCommand {
     public String showPriceFor(String movieTitle, String roomName, String startTime, String seat) {
         return parseDateTime(startTime)
                 .map(startDateTime -> pricingService
-                        .calculatePrice(movieTitle, roomName, startDateTime, Collections.singletonList(seat)))
+                        .calculatePrice(movieTitle, roomName, startDateTime, List.of(seat.trim().split("\\s+"))))
                 .map(result -> result.isSuccess()
                         ? String.format("The price for this booking would be %d HUF", result.getData())
                         : result.getMessage())
                 .orElse("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.");
     }
 
+    @ShellMethod(key = "show prices on", value = "Show the seat prices of every screening of a day")
+    public String showPricesOn(String date) {
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd'.";
+        }
+
+        var result = pricingService.quotePrices(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+        if (!result.isSuccess()) {
+            return result.getMessage();
+        }
+        if (result.getData().isEmpty()) {
+            return "There are no screenings on this day";
+        }
+        return result.getData().stream()
+                .map(quote -> String.format("%s, screened in room %s, at %s: %s",
+                        quote.getMovieTitle(),
+                        quote.getRoomName(),
+                        quote.getStartTime().format(dateTimeFormatter),
+                        renderRowPrices(quote)))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Renders the row prices of a quote, merging consecutive rows of the same price into a single range.
+     *
+     * @param quote The price quote of a screening.
+     * @return The rendered prices, e.g. {@code "rows 1-2: 1200 HUF, rows 3-10: 1500 HUF"}.
+     */
+    private String renderRowPrices(PriceQuoteDto quote) {
+        int[] prices = quote.getRowPrices();
+        StringBuilder rendered = new StringBuilder();
+        int first = 0;
+        for (int row = 1; row <= prices.length; row++) {
+            if (row < prices.length && prices[row] == prices[first]) {
+                continue;
+            }
+            if (first == 0 && row == prices.length) {
+                return prices[first] + " HUF";
+            }
+            if (rendered.length() > 0) {
+                rendered.append(", ");
+            }
+            rendered.append(first + 1 == row ? "row " + row : "rows " + (first + 1) + "-" + row)
+                    .append(": ").append(prices[first]).append(" HUF");
+            first = row;
+        }
+        return rendered.toString();
+    }
+
     private Optional<LocalDateTime> parseDateTime(String startTime) {
         try {
             return Optional.of(LocalDateTime.parse(startTime, dateTimeFormatter));
@@ -5,11 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @ShellComponent
 @RequiredArgsConstructor
@@ -19,6 +24,8 @@ public class ScreeningCommand {
 
     private final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     @ShellMethod(key = "create screening", value = "Create a new screening")
     public String createScreening(String movieTitle, String roomName, String startTime) {
         return parseDateTime(startTime)
@@ -27,6 +34,48 @@ public class ScreeningCommand {
                 .orElse("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.");
     }
 
+    @ShellMethod(key = "import screenings", value = "Import screenings from a CSV schedule file")
+    public String importScreenings(String file) {
+        var result = screeningService.importScreenings(Path.of(file));
+        if (!result.isSuccess()) {
+            return result.getMessage();
+        }
+
+        return Stream.concat(
+                        Stream.of(String.format("Imported %d screenings", result.getData().getImportedCount())),
+                        result.getData().getErrors().stream())
+                .collect(Collectors.joining("\n"));
+    }
+
+    @ShellMethod(key = "generate schedule", value = "Fill the rooms with screenings of movies over a range of days")
+    public String generateSchedule(String firstDay, String lastDay, String screeningCounts) {
+        LocalDate first;
+        LocalDate last;
+        try {
+            first = LocalDate.parse(firstDay, dateFormatter);
+            last = LocalDate.parse(lastDay, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return "Error: Invalid date format. Use 'yyyy-MM-dd'.";
+        }
+
+        Optional<Map<String, Integer>> counts = parseScreeningCounts(screeningCounts);
+        if (counts.isEmpty()) {
+            return "Error: Invalid screening counts. Use 'title=count,title=count'.";
+        }
+
+        var result = screeningService.generateSchedule(first, last, counts.get());
+        if (!result.isSuccess()) {
+            return result.getMessage();
+        }
+
+        return Stream.concat(
+                        Stream.of(String.format("Generated %d screenings", result.getData().getGeneratedCount())),
+                        result.getData().getUnscheduledCounts().entrySet().stream()
+                                .map(unscheduled -> String.format("Could not schedule %d screenings of %s",
+                                        unscheduled.getValue(), unscheduled.getKey())))
+                .collect(Collectors.joining("\n"));
+    }
+
     @ShellMethod(key = "list screenings", value = "List all screenings")
     public String listScreenings() {
         var result = screeningService.getScreenings();
@@ -51,6 +100,26 @@ public class ScreeningCommand {
                 .orElse("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.");
     }
 
+    private Optional<Map<String, Integer>> parseScreeningCounts(String screeningCounts) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String screeningCount : screeningCounts.split(",")) {
+            int separator = screeningCount.lastIndexOf('=');
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            try {
+                int count = Integer.parseInt(screeningCount.substring(separator + 1).trim());
+                if (count <= 0) {
+                    return Optional.empty();
+                }
+                counts.merge(screeningCount.substring(0, separator).trim(), count, Integer::sum);
+            } catch (NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(counts);
+    }
+
     private Optional<LocalDateTime> parseDateTime(String startTime) {
         try {
             return Optional.of(LocalDateTime.parse(startTime, dateTimeFormatter));
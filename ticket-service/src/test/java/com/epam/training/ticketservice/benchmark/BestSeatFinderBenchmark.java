@@ -0,0 +1,67 @@
+package com.epam.training.ticketservice.benchmark;
+
+import com.epam.training.ticketservice.core.booking.BestSeatFinder;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the best-available search on a 50x50 room filled to different levels with random bookings.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> com.epam.training.ticketservice.benchmark.BestSeatFinderBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BestSeatFinderBenchmark {
+
+    @Param({"0.3", "0.9"})
+    private double occupancy;
+
+    @Param({"4"})
+    private int count;
+
+    private SeatMap seatMap;
+
+    @Setup
+    public void setUp() {
+        seatMap = new SeatMap(50, 50);
+        Random random = new Random(42);
+        for (int index = 0; index < seatMap.capacity(); index++) {
+            if (random.nextDouble() < occupancy) {
+                seatMap.reserve(index);
+            }
+        }
+    }
+
+    @Benchmark
+    public Optional<int[]> find() {
+        return BestSeatFinder.find(seatMap, count);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BestSeatFinderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.epam.training.ticketservice.benchmark;
+
+import com.epam.training.ticketservice.core.mapper.BookingMapper;
+import com.epam.training.ticketservice.core.mapper.MovieMapper;
+import com.epam.training.ticketservice.core.mapper.RoomMapper;
+import com.epam.training.ticketservice.core.mapper.ScreeningMapper;
+import com.epam.training.ticketservice.core.mapper.UserMapper;
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.Seat;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares mapping screenings and bookings to their DTOs with the hand-written mappers against the
+ * {@code ObjectMapper.convertValue} round trip through a token buffer the services used before.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> com.epam.training.ticketservice.benchmark.DtoMappingBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private ScreeningMapper screeningMapper;
+
+    private BookingMapper bookingMapper;
+
+    private Screening screening;
+
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        screeningMapper = new ScreeningMapper(new MovieMapper(), new RoomMapper());
+        bookingMapper = new BookingMapper(new UserMapper(), screeningMapper);
+
+        Movie movie = new Movie("Sátántangó", "drama", 450);
+        movie.setId(1L);
+        Room room = new Room("Pedersoli", 20, 10);
+        room.setId(2L);
+        screening = new Screening(movie, room, LocalDateTime.of(2021, 3, 15, 10, 45));
+        screening.setId(3L);
+        User user = new User("sanyi", "$2a$10$abcdefghijklmnopqrstuv", Role.USER);
+        user.setId(4L);
+        booking = new Booking(user, screening, List.of(44, 45, 46, 47), 6000, LocalDateTime.of(2021, 3, 1, 9, 0));
+        booking.setId(5L);
+    }
+
+    @Benchmark
+    public ScreeningDto screeningConvertValue() {
+        return objectMapper.convertValue(screening, ScreeningDto.class);
+    }
+
+    @Benchmark
+    public ScreeningDto screeningMapper() {
+        return screeningMapper.toDto(screening);
+    }
+
+    @Benchmark
+    public BookingDto bookingConvertValue() {
+        BookingDto bookingDto = objectMapper.convertValue(booking, BookingDto.class);
+        int columns = booking.getScreening().getRoom().getColumns();
+        bookingDto.setSeats(booking.getSeats().stream()
+                .map(seat -> Seat.decode(seat, columns).toString())
+                .collect(Collectors.toList()));
+        return bookingDto;
+    }
+
+    @Benchmark
+    public BookingDto bookingMapper() {
+        return bookingMapper.toDto(booking);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DtoMappingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.epam.training.ticketservice.benchmark;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.schedule.RoomSchedule;
+import com.epam.training.ticketservice.core.schedule.ScheduleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating the schedule of a multiplex of 20 rooms for three months from 40 movies,
+ * with more screenings requested than fit, in rooms which are empty or already partly booked.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> com.epam.training.ticketservice.benchmark.ScheduleGeneratorBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleGeneratorBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    private static final LocalDate LAST_DAY = LocalDate.of(2024, 3, 31);
+
+    @Param({"false", "true"})
+    private boolean partlyBooked;
+
+    private final ScheduleGenerator scheduleGenerator = new ScheduleGenerator("10:00", "23:00");
+
+    private final Map<Room, RoomSchedule> schedules = new LinkedHashMap<>();
+
+    private final Map<Movie, Integer> targets = new LinkedHashMap<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 20; i++) {
+            RoomSchedule schedule = new RoomSchedule();
+            if (partlyBooked) {
+                FIRST_DAY.datesUntil(LAST_DAY.plusDays(1)).forEach(day -> schedule.add(day.atTime(15, 0), 120));
+            }
+            schedules.put(new Room("Room " + i, 10, 10), schedule);
+        }
+        for (int i = 0; i < 40; i++) {
+            targets.put(new Movie("Movie " + i, "drama", 80 + 3 * i), 250);
+        }
+    }
+
+    @Benchmark
+    public List<Screening> generate() {
+        return scheduleGenerator.generate(schedules, targets, FIRST_DAY, LAST_DAY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ScheduleGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.epam.training.ticketservice.benchmark;
+
+import com.epam.training.ticketservice.core.booking.CasReservationEngine;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import com.epam.training.ticketservice.core.booking.SeatReservationEngine;
+import com.epam.training.ticketservice.core.booking.StripedLockReservationEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reservation engines under flash-sale contention: every thread books random
+ * adjacent seats of the same screening and gives them back right away, so the room never fills up.
+ *
+ * <p>Run with {@code mvn test-compile} followed by
+ * {@code java -cp target/test-classes:<test classpath> com.epam.training.ticketservice.benchmark.SeatReservationBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class SeatReservationBenchmark {
+
+    @Param({"locking", "cas"})
+    private String mode;
+
+    @Param({"2", "6"})
+    private int seatsPerBooking;
+
+    private SeatReservationEngine reservationEngine;
+
+    private SeatMap seatMap;
+
+    @Setup
+    public void setUp() {
+        reservationEngine = "cas".equals(mode) ? new CasReservationEngine() : new StripedLockReservationEngine(256);
+        seatMap = new SeatMap(20, 20);
+    }
+
+    @Benchmark
+    public int reserveAndRelease() {
+        int first = ThreadLocalRandom.current().nextInt(seatMap.getRows() * seatMap.getColumns() - seatsPerBooking);
+        int[] seats = new int[seatsPerBooking];
+        for (int i = 0; i < seats.length; i++) {
+            seats[i] = first + i;
+        }
+
+        int taken = reservationEngine.reserve(1L, seatMap, seats);
+        if (taken < 0) {
+            reservationEngine.release(1L, seatMap, seats);
+        }
+        return taken;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SeatReservationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
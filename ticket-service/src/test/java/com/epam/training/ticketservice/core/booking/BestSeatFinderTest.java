@@ -0,0 +1,78 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestSeatFinderTest {
+
+    @Test
+    void testFind_WhenRoomIsEmpty_PicksCentreBlock() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(5, 10);
+
+        // Act
+        Optional<int[]> result = BestSeatFinder.find(seatMap, 4);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertArrayEquals(new int[] {23, 24, 25, 26}, result.get());
+    }
+
+    @Test
+    void testFind_ShiftsBlockWithinRunWhenCentreIsTaken() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(1, 10);
+        seatMap.reserve(new int[] {4, 5});
+
+        // Act
+        Optional<int[]> result = BestSeatFinder.find(seatMap, 3);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertArrayEquals(new int[] {1, 2, 3}, result.get());
+    }
+
+    @Test
+    void testFind_PrefersRowsCloserToCentre() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(5, 4);
+        seatMap.reserve(new int[] {9, 10});
+        seatMap.reserve(new int[] {5, 6});
+
+        // Act
+        Optional<int[]> result = BestSeatFinder.find(seatMap, 2);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertArrayEquals(new int[] {13, 14}, result.get());
+    }
+
+    @Test
+    void testFind_WhenNoRowHasEnoughAdjacentSeats() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(2, 4);
+        seatMap.reserve(new int[] {1, 6});
+
+        // Act
+        Optional<int[]> result = BestSeatFinder.find(seatMap, 3);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testFind_WhenCountExceedsRowLength() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(2, 4);
+
+        // Act
+        Optional<int[]> result = BestSeatFinder.find(seatMap, 5);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.pricing.ScreeningDeletedEvent;
+import com.epam.training.ticketservice.core.schedule.MovieLengthChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingHistoryCacheTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final BookingHistoryCache bookingHistoryCache = new BookingHistoryCache(2, TTL_MILLIS, now::get);
+
+    @Test
+    void testAppend_WhenHistoryIsNotLoaded_ThenNothingIsCached() {
+        // Arrange
+        // Act
+        bookingHistoryCache.append("user", booking(1L));
+
+        // Assert
+        assertEquals(Optional.empty(), bookingHistoryCache.find("user"));
+        assertEquals(0, bookingHistoryCache.countHistories());
+    }
+
+    @Test
+    void testAppend_WhenHistoryIsLoaded_ThenBookingIsAddedToTheEnd() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+
+        // Act
+        bookingHistoryCache.append("user", booking(2L));
+
+        // Assert
+        assertEquals(List.of(booking(1L), booking(2L)), bookingHistoryCache.find("user").orElseThrow());
+        assertEquals(Optional.empty(), bookingHistoryCache.find("other"));
+    }
+
+    @Test
+    void testLoad_WhenBookingsAreCommittedDuringTheRead_ThenTheyAreKeptOnce() {
+        // Arrange
+        Supplier<List<BookingDto>> read = () -> {
+            bookingHistoryCache.append("user", booking(2L));
+            assertEquals(Optional.empty(), bookingHistoryCache.find("user"));
+            bookingHistoryCache.append("user", booking(3L));
+            return List.of(booking(1L), booking(2L));
+        };
+
+        // Act
+        List<BookingDto> history = bookingHistoryCache.load("user", read);
+
+        // Assert
+        assertEquals(List.of(booking(1L), booking(2L), booking(3L)), history);
+        assertEquals(history, bookingHistoryCache.find("user").orElseThrow());
+    }
+
+    @Test
+    void testLoad_WhenReadFails_ThenHistoryIsNotServed() {
+        // Arrange
+        Supplier<List<BookingDto>> failingRead = () -> {
+            throw new IllegalStateException("database is down");
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingHistoryCache.load("user", failingRead));
+        bookingHistoryCache.append("user", booking(2L));
+        assertEquals(Optional.empty(), bookingHistoryCache.find("user"));
+        assertEquals(List.of(booking(1L), booking(2L)),
+                bookingHistoryCache.load("user", () -> List.of(booking(1L))));
+    }
+
+    @Test
+    void testAppend_WhenBookingIsAlreadyInHistory_ThenItIsNotDuplicated() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+
+        // Act
+        bookingHistoryCache.append("user", booking(1L));
+
+        // Assert
+        assertEquals(List.of(booking(1L)), bookingHistoryCache.find("user").orElseThrow());
+    }
+
+    @Test
+    void testFind_WhenHistoryIsLoaded_ThenItCannotBeModified() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+
+        // Act
+        List<BookingDto> history = bookingHistoryCache.find("user").orElseThrow();
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> history.add(booking(2L)));
+    }
+
+    @Test
+    void testOnScreeningDeleted_EvictsEveryHistory() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+        bookingHistoryCache.load("other", () -> List.of(booking(2L)));
+
+        // Act
+        bookingHistoryCache.onScreeningDeleted(new ScreeningDeletedEvent(1L));
+
+        // Assert
+        assertEquals(0, bookingHistoryCache.countHistories());
+    }
+
+    @Test
+    void testOnMovieLengthChanged_EvictsEveryHistory() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+
+        // Act
+        bookingHistoryCache.onMovieLengthChanged(new MovieLengthChangedEvent(1L));
+
+        // Assert
+        assertEquals(0, bookingHistoryCache.countHistories());
+    }
+
+    @Test
+    void testLoad_WhenMoreUsersThanTheMaximum_ThenLeastRecentlyUsedHistoryIsDropped() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+        bookingHistoryCache.load("other", () -> List.of(booking(2L)));
+        bookingHistoryCache.find("user");
+
+        // Act
+        bookingHistoryCache.load("third", () -> List.of(booking(3L)));
+
+        // Assert
+        assertEquals(2, bookingHistoryCache.countHistories());
+        assertTrue(bookingHistoryCache.find("user").isPresent());
+        assertEquals(Optional.empty(), bookingHistoryCache.find("other"));
+    }
+
+    @Test
+    void testFind_WhenHistoryHasExpired_ThenItIsLoadedAgain() {
+        // Arrange
+        bookingHistoryCache.load("user", () -> List.of(booking(1L)));
+        now.addAndGet(TTL_MILLIS);
+
+        // Act
+        Optional<List<BookingDto>> expired = bookingHistoryCache.find("user");
+        List<BookingDto> reloaded = bookingHistoryCache.load("user", () -> List.of(booking(1L), booking(2L)));
+
+        // Assert
+        assertEquals(Optional.empty(), expired);
+        assertEquals(List.of(booking(1L), booking(2L)), reloaded);
+        assertEquals(reloaded, bookingHistoryCache.find("user").orElseThrow());
+    }
+
+    private static BookingDto booking(Long id) {
+        return new BookingDto(id, null, null, List.of("1,1"), 1500, null);
+    }
+}
@@ -0,0 +1,98 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatHoldRegistryTest {
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final SeatMap seatMap = new SeatMap(10, 10);
+
+    private final Screening screening = new Screening();
+
+    private SeatHoldRegistry seatHoldRegistry;
+
+    @BeforeEach
+    void setUp() {
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        seatHoldRegistry = new SeatHoldRegistry(new StripedLockReservationEngine(16), TTL_MILLIS, 1_000, now::get);
+    }
+
+    @Test
+    void testExpireHolds_ReleasesSeatsOfExpiredHold() {
+        // Arrange
+        seatMap.reserve(new int[] {1, 2});
+        seatHoldRegistry.hold("user", screening, seatMap, new int[] {1, 2});
+
+        // Act
+        now.set(TTL_MILLIS - 1_000);
+        int beforeExpiry = seatHoldRegistry.expireHolds();
+        now.set(TTL_MILLIS);
+        int atExpiry = seatHoldRegistry.expireHolds();
+
+        // Assert
+        assertEquals(0, beforeExpiry);
+        assertEquals(1, atExpiry);
+        assertEquals(0, seatMap.countTaken());
+        assertEquals(0, seatHoldRegistry.countHolds());
+    }
+
+    @Test
+    void testClaim_KeepsSeatsReservedAfterExpiry() {
+        // Arrange
+        seatMap.reserve(new int[] {1, 2});
+        SeatHold hold = seatHoldRegistry.hold("user", screening, seatMap, new int[] {1, 2});
+
+        // Act
+        Optional<SeatHold> claimed = seatHoldRegistry.claim(hold.getId(), "user");
+        now.set(TTL_MILLIS);
+        seatHoldRegistry.expireHolds();
+
+        // Assert
+        assertTrue(claimed.isPresent());
+        assertSame(hold, claimed.get());
+        assertEquals(TTL_MILLIS, hold.getExpiresAtMillis());
+        assertEquals(2, seatMap.countTaken());
+    }
+
+    @Test
+    void testClaim_WhenHoldBelongsToAnotherUser() {
+        // Arrange
+        SeatHold hold = seatHoldRegistry.hold("user", screening, seatMap, new int[] {1});
+
+        // Act
+        Optional<SeatHold> claimed = seatHoldRegistry.claim(hold.getId(), "other");
+
+        // Assert
+        assertTrue(claimed.isEmpty());
+        assertEquals(1, seatHoldRegistry.countHolds());
+    }
+
+    @Test
+    void testClaim_WhenHoldHasExpired() {
+        // Arrange
+        seatMap.reserve(1);
+        SeatHold hold = seatHoldRegistry.hold("user", screening, seatMap, new int[] {1});
+        now.set(TTL_MILLIS);
+        seatHoldRegistry.expireHolds();
+
+        // Act
+        Optional<SeatHold> claimed = seatHoldRegistry.claim(hold.getId(), "user");
+
+        // Assert
+        assertTrue(claimed.isEmpty());
+        assertFalse(seatMap.isTaken(1));
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.epam.training.ticketservice.core.booking;
+
+import com.epam.training.ticketservice.core.model.Seat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatMapTest {
+
+    @Test
+    void testIndexOf_WhenSeatIsInsideTheRoom() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(20, 10);
+
+        // Act & Assert
+        assertEquals(0, seatMap.indexOf(new Seat(1, 1)));
+        assertEquals(44, seatMap.indexOf(new Seat(5, 5)));
+        assertEquals(199, seatMap.indexOf(new Seat(20, 10)));
+    }
+
+    @Test
+    void testIndexOf_WhenSeatIsOutsideTheRoom() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(20, 10);
+
+        // Act & Assert
+        assertEquals(-1, seatMap.indexOf(new Seat(0, 5)));
+        assertEquals(-1, seatMap.indexOf(new Seat(21, 1)));
+        assertEquals(-1, seatMap.indexOf(new Seat(1, 11)));
+    }
+
+    @Test
+    void testFindTaken_ReturnsPositionOfFirstTakenSeat() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+        seatMap.reserve(new int[] {70, 99});
+
+        // Act & Assert
+        assertEquals(-1, seatMap.findTaken(new int[] {0, 1, 2}));
+        assertEquals(1, seatMap.findTaken(new int[] {3, 99, 70}));
+    }
+
+    @Test
+    void testReserveAndRelease_AcrossWordBoundaries() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+        int[] seats = {62, 63, 64, 65};
+
+        // Act
+        seatMap.reserve(seats);
+
+        // Assert
+        assertEquals(4, seatMap.countTaken());
+        assertTrue(seatMap.isTaken(63));
+        assertTrue(seatMap.isTaken(64));
+
+        // Act
+        seatMap.release(seats);
+
+        // Assert
+        assertEquals(0, seatMap.countTaken());
+    }
+
+    @Test
+    void testHasSize() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 20);
+
+        // Act & Assert
+        assertTrue(seatMap.hasSize(10, 20));
+        assertFalse(seatMap.hasSize(20, 10));
+    }
+
+    @Test
+    void testSnapshot_CopiesOccupancyBits() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+        seatMap.reserve(new int[] {0, 64});
+
+        // Act
+        long[] snapshot = seatMap.snapshot();
+        seatMap.reserve(1);
+
+        // Assert
+        assertArrayEquals(new long[] {1L, 1L}, snapshot);
+    }
+}
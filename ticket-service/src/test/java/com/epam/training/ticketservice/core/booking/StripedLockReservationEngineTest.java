@@ -0,0 +1,125 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLockReservationEngineTest {
+
+    private static final int THREADS = 64;
+
+    private static final int ATTEMPTS_PER_THREAD = 2_000;
+
+    private final StripedLockReservationEngine reservationEngine = new StripedLockReservationEngine(256);
+
+    @Test
+    void testReserve_WhenAllSeatsAreFree() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+
+        // Act
+        int result = reservationEngine.reserve(1L, seatMap, new int[] {1, 2, 3});
+
+        // Assert
+        assertEquals(-1, result);
+        assertEquals(3, seatMap.countTaken());
+    }
+
+    @Test
+    void testReserve_WhenOneSeatIsTaken_ReservesNothing() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+        seatMap.reserve(3);
+
+        // Act
+        int result = reservationEngine.reserve(1L, seatMap, new int[] {1, 2, 3, 4});
+
+        // Assert
+        assertEquals(2, result);
+        assertEquals(1, seatMap.countTaken());
+    }
+
+    @Test
+    void testRelease() {
+        // Arrange
+        SeatMap seatMap = new SeatMap(10, 10);
+        reservationEngine.reserve(1L, seatMap, new int[] {1, 2});
+
+        // Act
+        reservationEngine.release(1L, seatMap, new int[] {1, 2});
+
+        // Assert
+        assertEquals(0, seatMap.countTaken());
+    }
+
+    @Test
+    void testStripeFor_SequentialScreeningsUseDistinctStripes() {
+        // Arrange
+        Set<Integer> stripes = new HashSet<>();
+
+        // Act
+        for (long id = 1; id <= 256; id++) {
+            stripes.add(reservationEngine.stripeFor(id));
+        }
+
+        // Assert
+        assertEquals(256, stripes.size());
+    }
+
+    @Test
+    void testReserve_WhenHammeredFromManyThreads_NeverDoubleBooks() throws Exception {
+        // Arrange
+        SeatMap seatMap = new SeatMap(20, 20);
+        Queue<int[]> reservations = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // Act
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                    int size = 1 + random.nextInt(4);
+                    int first = random.nextInt(400 - size);
+                    int[] seats = new int[size];
+                    for (int s = 0; s < size; s++) {
+                        seats[s] = first + s;
+                    }
+                    if (reservationEngine.reserve(7L, seatMap, seats) < 0) {
+                        reservations.add(seats);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        Set<Integer> bookedSeats = new HashSet<>();
+        for (int[] seats : reservations) {
+            for (int seat : seats) {
+                assertTrue(bookedSeats.add(seat), "Seat " + seat + " was booked twice");
+            }
+        }
+        assertEquals(bookedSeats.size(), seatMap.countTaken());
+    }
+}
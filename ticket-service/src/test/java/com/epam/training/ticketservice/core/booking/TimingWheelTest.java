@@ -0,0 +1,81 @@
+package com.epam.training.ticketservice.core.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void testAdvance_RunsTaskOnlyOnceItsDeadlineHasPassed() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add("task"), 250, 0);
+
+        // Act
+        int beforeDeadline = wheel.advance(200);
+        int afterDeadline = wheel.advance(300);
+
+        // Assert
+        assertEquals(0, beforeDeadline);
+        assertEquals(1, afterDeadline);
+        assertEquals(List.of("task"), fired);
+    }
+
+    @Test
+    void testAdvance_WhenDelaySpansSeveralRotations() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(10, 4, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add("late"), 105, 0);
+        wheel.schedule(() -> fired.add("early"), 15, 0);
+
+        // Act
+        wheel.advance(50);
+        List<String> afterFirstRotations = new ArrayList<>(fired);
+        wheel.advance(110);
+
+        // Assert
+        assertEquals(List.of("early"), afterFirstRotations);
+        assertEquals(List.of("early", "late"), fired);
+    }
+
+    @Test
+    void testAdvance_SkipsCancelledTasks() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        List<String> fired = new ArrayList<>();
+        TimingWheel.Timeout timeout = wheel.schedule(() -> fired.add("cancelled"), 100, 0);
+        wheel.schedule(() -> fired.add("kept"), 100, 0);
+
+        // Act
+        timeout.cancel();
+        int expired = wheel.advance(100);
+
+        // Assert
+        assertTrue(timeout.isCancelled());
+        assertEquals(1, expired);
+        assertEquals(List.of("kept"), fired);
+    }
+
+    @Test
+    void testSchedule_WhenDeadlineIsAlreadyPast_RunsOnNextTick() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(100, 8, 0);
+        wheel.advance(1_000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(() -> fired.add("task"), 0, 500);
+
+        // Act
+        int expired = wheel.advance(1_100);
+
+        // Assert
+        assertEquals(1, expired);
+        assertEquals(List.of("task"), fired);
+    }
+
+}
@@ -1,21 +1,32 @@
 package com.epam.training.ticketservice.core.data;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
 
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.model.enums.Role;
+import com.epam.training.ticketservice.core.repository.PricingConfigurationRepository;
 import com.epam.training.ticketservice.core.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 class InitializerTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PricingConfigurationRepository pricingConfigurationRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @InjectMocks
     private Initializer initializer;
 
@@ -28,6 +39,7 @@ class InitializerTest {
     void testInit_WhenAdminUserDoesNotExist() {
         // Arrange
         when(userRepository.existsByUsername("admin")).thenReturn(false);
+        when(passwordEncoder.encode("admin")).thenReturn("hashed admin");
 
         // Act
         initializer.init();
@@ -35,7 +47,7 @@ class InitializerTest {
         // Assert
         verify(userRepository, times(1)).save(argThat(user ->
                 user.getUsername().equals("admin") &&
-                        user.getPassword().equals("admin") &&
+                        user.getPassword().equals("hashed admin") &&
                         user.getRole() == Role.ADMIN
         ));
     }
@@ -51,4 +63,44 @@ class InitializerTest {
         // Assert
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @Test
+    void testInit_WhenPricingConfigurationDoesNotExist_ThenItIsCreatedWithDefaultBasePrice() {
+        // Arrange
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+        when(pricingConfigurationRepository.existsById(PricingConfiguration.ID)).thenReturn(false);
+
+        // Act
+        initializer.init();
+
+        // Assert
+        verify(pricingConfigurationRepository).saveAndFlush(argThat(configuration ->
+                configuration.getId() == PricingConfiguration.ID
+                        && configuration.getBasePrice() == PricingConfiguration.DEFAULT_BASE_PRICE));
+    }
+
+    @Test
+    void testInit_WhenPricingConfigurationExists_ThenItIsKept() {
+        // Arrange
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+        when(pricingConfigurationRepository.existsById(PricingConfiguration.ID)).thenReturn(true);
+
+        // Act
+        initializer.init();
+
+        // Assert
+        verify(pricingConfigurationRepository, never()).saveAndFlush(any(PricingConfiguration.class));
+    }
+
+    @Test
+    void testInit_WhenAnotherNodeCreatesPricingConfigurationMeanwhile_ThenStartupContinues() {
+        // Arrange
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+        when(pricingConfigurationRepository.existsById(PricingConfiguration.ID)).thenReturn(false);
+        when(pricingConfigurationRepository.saveAndFlush(any(PricingConfiguration.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> initializer.init());
+    }
 }
@@ -0,0 +1,84 @@
+package com.epam.training.ticketservice.core.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PasswordHashMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private PasswordHashMigration passwordHashMigration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        passwordHashMigration = new PasswordHashMigration(jdbcTemplate, passwordEncoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void testMigrate_HashesPasswordsStoredInPlainText() {
+        // Arrange
+        String hash = passwordEncoder.encode("asdQWE123");
+        jdbcTemplate.update("insert into users (id, username, password, role) values (1, 'admin', 'admin', 'ADMIN')");
+        jdbcTemplate.update("insert into users (id, username, password, role) values (2, 'sanyi', ?, 'USER')", hash);
+
+        // Act
+        passwordHashMigration.migrate();
+        String migrated = password(1);
+        passwordHashMigration.migrate();
+
+        // Assert
+        assertTrue(passwordEncoder.matches("admin", migrated));
+        assertEquals(migrated, password(1));
+        assertEquals(hash, password(2));
+    }
+
+    @Test
+    void testMigrate_WhenUsersTableDoesNotExist_ThenDoesNothing() {
+        // Arrange
+        EmbeddedDatabase emptyDatabase = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        PasswordHashMigration migration = new PasswordHashMigration(new JdbcTemplate(emptyDatabase), passwordEncoder);
+
+        // Act & Assert
+        try {
+            assertDoesNotThrow(migration::migrate);
+        } finally {
+            emptyDatabase.shutdown();
+        }
+    }
+
+    private String password(long id) {
+        return jdbcTemplate.queryForObject("select password from users where id = ?", String.class, id);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.epam.training.ticketservice.core.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatClaimMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SeatClaimMigration seatClaimMigration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seatClaimMigration = new SeatClaimMigration(jdbcTemplate);
+        jdbcTemplate.update("insert into users (id, username, password, role) values (1, 'sanyi', 'hash', 'USER')");
+        jdbcTemplate.update("insert into movies (id, title, genre, length) values (2, 'Movie', 'drama', 120)");
+        jdbcTemplate.update("insert into rooms (id, name, row_count, columns) values (3, 'Room', 10, 10)");
+        jdbcTemplate.update("insert into screenings (id, movie_id, room_id, start_time)"
+                + " values (4, 2, 3, '2021-03-15 10:45:00')");
+        jdbcTemplate.update("insert into bookings (id, user_id, screening_id, price, booking_time)"
+                + " values (5, 1, 4, 3000, '2021-03-01 09:00:00'), (6, 1, 4, 3000, '2021-03-01 09:05:00')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from seat_claims");
+        jdbcTemplate.update("delete from booked_seats");
+        jdbcTemplate.update("delete from bookings");
+        jdbcTemplate.update("delete from screenings");
+        jdbcTemplate.update("delete from rooms");
+        jdbcTemplate.update("delete from movies");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void testMigrate_ClaimsBookedSeatsOnceByTheirEarliestBooking() {
+        // Arrange
+        jdbcTemplate.update("insert into booked_seats (booking_id, seat) values (5, 10), (5, 11), (6, 11), (6, 12)");
+
+        // Act
+        seatClaimMigration.migrate();
+        seatClaimMigration.migrate();
+
+        // Assert
+        List<Map<String, Object>> claims =
+                jdbcTemplate.queryForList("select booking_id, seat from seat_claims order by seat");
+        assertEquals(List.of(5L, 5L, 6L), claims.stream().map(claim -> ((Number) claim.get("booking_id")).longValue())
+                .toList());
+        assertEquals(List.of(10, 11, 12), claims.stream().map(claim -> ((Number) claim.get("seat")).intValue())
+                .toList());
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.epam.training.ticketservice.core.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SeatStorageMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private SeatStorageMigration seatStorageMigration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seatStorageMigration = new SeatStorageMigration(jdbcTemplate);
+        jdbcTemplate.update("insert into users (id, username, password, role) values (1, 'sanyi', 'hash', 'USER')");
+        jdbcTemplate.update("insert into movies (id, title, genre, length) values (2, 'Movie', 'drama', 120)");
+        jdbcTemplate.update("insert into rooms (id, name, row_count, columns) values (3, 'Room', 10, 10)");
+        jdbcTemplate.update("insert into screenings (id, movie_id, room_id, start_time)"
+                + " values (4, 2, 3, '2021-03-15 10:45:00')");
+        jdbcTemplate.update("insert into bookings (id, user_id, screening_id, price, booking_time)"
+                + " values (5, 1, 4, 4500, '2021-03-01 09:00:00')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from booked_seats");
+        jdbcTemplate.update("delete from bookings");
+        jdbcTemplate.update("delete from screenings");
+        jdbcTemplate.update("delete from rooms");
+        jdbcTemplate.update("delete from movies");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void testMigrate_EncodesSeatsStoredAsStrings() {
+        // Arrange
+        jdbcTemplate.execute("alter table booked_seats alter column seat varchar(255)");
+        jdbcTemplate.update("insert into booked_seats (booking_id, seat) values (5, '2,1'), (5, '3,4'), (5, '11,1')");
+
+        // Act
+        seatStorageMigration.migrate();
+        seatStorageMigration.migrate();
+
+        // Assert
+        assertEquals(List.of(10, 23),
+                jdbcTemplate.queryForList("select seat from booked_seats order by seat", Integer.class));
+        jdbcTemplate.update("insert into booked_seats (booking_id, seat) values (5, 99)");
+    }
+
+    @Test
+    void testMigrate_WhenSeatsAreAlreadyEncoded_ThenNothingChanges() {
+        // Arrange
+        jdbcTemplate.update("insert into booked_seats (booking_id, seat) values (5, 10)");
+
+        // Act
+        seatStorageMigration.migrate();
+
+        // Assert
+        assertEquals(List.of(10), jdbcTemplate.queryForList("select seat from booked_seats", Integer.class));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.MovieDto;
+import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingMapperTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    private final BookingMapper bookingMapper =
+            new BookingMapper(new UserMapper(), new ScreeningMapper(new MovieMapper(), new RoomMapper()));
+
+    @Test
+    void testToDto_MapsBookingWithItsUserAndScreening() {
+        // Arrange
+        Movie movie = new Movie("Sátántangó", "drama", 450);
+        movie.setId(1L);
+        movie.setPricingComponents(Set.of(new Pricing("Extra", 100)));
+        Room room = new Room("Pedersoli", 20, 10);
+        room.setId(2L);
+        Screening screening = new Screening(movie, room, START_TIME);
+        screening.setId(3L);
+        User user = new User("sanyi", "hash", Role.USER);
+        user.setId(4L);
+        Booking booking = new Booking(user, screening, List.of(44, 45), 3000, START_TIME.minusDays(1));
+        booking.setId(5L);
+
+        // Act
+        BookingDto bookingDto = bookingMapper.toDto(booking);
+
+        // Assert
+        assertEquals(new BookingDto(5L, new UserDto(4L, "sanyi", "hash", "USER"),
+                new ScreeningDto(3L, new MovieDto(1L, "Sátántangó", "drama", 450, null),
+                        new RoomDto(2L, "Pedersoli", 20, 10, 200, null), START_TIME, null),
+                List.of("5,5", "5,6"), 3000, START_TIME.minusDays(1)), bookingDto);
+    }
+
+    @Test
+    void testToDto_WhenBookingIsNull_ThenNullIsReturned() {
+        // Act & Assert
+        assertNull(bookingMapper.toDto(null));
+    }
+
+}
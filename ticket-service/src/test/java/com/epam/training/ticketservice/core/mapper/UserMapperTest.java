@@ -0,0 +1,38 @@
+package com.epam.training.ticketservice.core.mapper;
+
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserMapperTest {
+
+    private final UserMapper userMapper = new UserMapper();
+
+    @Test
+    void testToEntity_WhenMappedBackFromDto_ThenUserIsEqual() {
+        // Arrange
+        User user = new User("admin", "hash", Role.ADMIN);
+        user.setId(1L);
+
+        // Act
+        UserDto userDto = userMapper.toDto(user);
+        User mappedUser = userMapper.toEntity(userDto);
+
+        // Assert
+        assertEquals(new UserDto(1L, "admin", "hash", "ADMIN"), userDto);
+        assertEquals(user, mappedUser);
+    }
+
+    @Test
+    void testToEntity_WhenRoleIsMissing_ThenRoleIsNull() {
+        // Act
+        User user = userMapper.toEntity(new UserDto("sanyi", null, null));
+
+        // Assert
+        assertEquals(new User("sanyi", null, null), user);
+    }
+
+}
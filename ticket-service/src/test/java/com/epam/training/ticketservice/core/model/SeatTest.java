@@ -0,0 +1,55 @@
+package com.epam.training.ticketservice.core.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatTest {
+
+    @Test
+    void testParse_WhenSeatIsWellFormed() {
+        // Act
+        Optional<Seat> seat = Seat.parse("5,6");
+
+        // Assert
+        assertEquals(Optional.of(new Seat(5, 6)), seat);
+    }
+
+    @Test
+    void testParse_WhenSeatIsMalformed() {
+        // Act & Assert
+        assertTrue(Seat.parse("A1").isEmpty());
+        assertTrue(Seat.parse("5;6").isEmpty());
+        assertTrue(Seat.parse("5,x").isEmpty());
+    }
+
+    @Test
+    void testFits() {
+        // Act & Assert
+        assertTrue(new Seat(20, 10).fits(20, 10));
+        assertFalse(new Seat(0, 1).fits(20, 10));
+        assertFalse(new Seat(21, 1).fits(20, 10));
+        assertFalse(new Seat(1, 11).fits(20, 10));
+    }
+
+    @Test
+    void testEncodeAndDecode() {
+        // Arrange
+        Seat seat = new Seat(5, 6);
+
+        // Act
+        int encoded = seat.encode(10);
+
+        // Assert
+        assertEquals(45, encoded);
+        assertEquals(seat, Seat.decode(encoded, 10));
+    }
+
+    @Test
+    void testToString() {
+        // Act & Assert
+        assertEquals("5,6", new Seat(5, 6).toString());
+    }
+}
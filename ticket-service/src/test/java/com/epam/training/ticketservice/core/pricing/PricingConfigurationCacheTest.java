@@ -0,0 +1,166 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
+import com.epam.training.ticketservice.core.repository.PricingConfigurationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PricingConfigurationCacheTest {
+
+    @Mock
+    private PricingConfigurationRepository pricingConfigurationRepository;
+
+    @InjectMocks
+    private PricingConfigurationCache pricingConfigurationCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetBasePrice_WhenNothingIsPersisted_ReturnsDefault() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID)).thenReturn(Optional.empty());
+
+        // Act
+        int basePrice = pricingConfigurationCache.getBasePrice();
+
+        // Assert
+        assertEquals(PricingConfiguration.DEFAULT_BASE_PRICE, basePrice);
+    }
+
+    @Test
+    void testGetBasePrice_LoadsOnlyOnce() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 2000, 3)));
+
+        // Act
+        pricingConfigurationCache.getBasePrice();
+        int basePrice = pricingConfigurationCache.getBasePrice();
+
+        // Assert
+        assertEquals(2000, basePrice);
+        verify(pricingConfigurationRepository, times(1)).findById(PricingConfiguration.ID);
+    }
+
+    @Test
+    void testRefresh_WhenVersionIsUnchanged_DoesNotReload() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 2000, 3)));
+        when(pricingConfigurationRepository.findVersionById(PricingConfiguration.ID)).thenReturn(Optional.of(3L));
+        pricingConfigurationCache.getBasePrice();
+
+        // Act
+        pricingConfigurationCache.refresh();
+
+        // Assert
+        verify(pricingConfigurationRepository, times(1)).findById(PricingConfiguration.ID);
+    }
+
+    @Test
+    void testRefresh_WhenChangedOnAnotherNode_ReloadsSnapshot() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 2000, 3)))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 1200, 4)));
+        when(pricingConfigurationRepository.findVersionById(PricingConfiguration.ID)).thenReturn(Optional.of(4L));
+        pricingConfigurationCache.getBasePrice();
+
+        // Act
+        pricingConfigurationCache.refresh();
+
+        // Assert
+        assertEquals(1200, pricingConfigurationCache.getBasePrice());
+    }
+
+    @Test
+    void testUpdateBasePrice_PersistsAndReplacesSnapshot() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 1500, 0)));
+        when(pricingConfigurationRepository.saveAndFlush(any(PricingConfiguration.class)))
+                .thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        // Act
+        pricingConfigurationCache.updateBasePrice(1000);
+
+        // Assert
+        assertEquals(1000, pricingConfigurationCache.getBasePrice());
+        verify(pricingConfigurationRepository).saveAndFlush(
+                argThat(configuration -> configuration.getBasePrice() == 1000));
+    }
+
+    @Test
+    void testUpdateBasePrice_WhenConfigurationIsMissing_ThenNothingIsInserted() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> pricingConfigurationCache.updateBasePrice(1000));
+        verify(pricingConfigurationRepository, never()).saveAndFlush(any(PricingConfiguration.class));
+    }
+
+    @Test
+    void testUpdateBasePrice_InTransaction_ThenSnapshotIsReplacedOnlyAfterCommit() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 1500, 0)));
+        when(pricingConfigurationRepository.saveAndFlush(any(PricingConfiguration.class)))
+                .thenAnswer(invocation -> saved(invocation.getArgument(0)));
+        pricingConfigurationCache.getBasePrice();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            pricingConfigurationCache.updateBasePrice(1000);
+            int basePriceBeforeCommit = pricingConfigurationCache.getBasePrice();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertEquals(1500, basePriceBeforeCommit);
+            assertEquals(1000, pricingConfigurationCache.getBasePrice());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testUpdateBasePrice_WhenRolledBack_ThenSnapshotIsKept() {
+        // Arrange
+        when(pricingConfigurationRepository.findById(PricingConfiguration.ID))
+                .thenReturn(Optional.of(new PricingConfiguration(PricingConfiguration.ID, 1500, 0)));
+        when(pricingConfigurationRepository.saveAndFlush(any(PricingConfiguration.class)))
+                .thenAnswer(invocation -> saved(invocation.getArgument(0)));
+        pricingConfigurationCache.getBasePrice();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            pricingConfigurationCache.updateBasePrice(1000);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            assertEquals(1500, pricingConfigurationCache.getBasePrice());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static PricingConfiguration saved(PricingConfiguration configuration) {
+        return new PricingConfiguration(configuration.getId(), configuration.getBasePrice(),
+                configuration.getVersion() + 1);
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingPlanTest {
+
+    private static final LocalDateTime MONDAY_MORNING = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    @Test
+    void testSeatPrice_WithoutComponents_ReturnsBasePrice() {
+        // Act
+        PricingPlan plan = PricingPlan.compile(MONDAY_MORNING, List.of());
+
+        // Assert
+        assertEquals(1500, plan.seatPrice(1500, 1));
+        assertFalse(plan.dependsOnRow());
+    }
+
+    @Test
+    void testSeatPrice_AppliesPercentageAfterFixedAmounts() {
+        // Arrange
+        Pricing extra = new Pricing("Extra", 500);
+        Pricing discount = rule("Discount", PricingType.PERCENTAGE, -10);
+
+        // Act
+        PricingPlan plan = PricingPlan.compile(MONDAY_MORNING, List.of(discount, extra));
+
+        // Assert
+        assertEquals(1800, plan.seatPrice(1500, 1));
+    }
+
+    @Test
+    void testSeatPrice_RoundsPercentageToNearestHuf() {
+        // Arrange
+        Pricing surcharge = rule("Surcharge", PricingType.PERCENTAGE, 15);
+
+        // Act
+        PricingPlan plan = PricingPlan.compile(MONDAY_MORNING, List.of(surcharge));
+
+        // Assert
+        assertEquals(1157, plan.seatPrice(1006, 1));
+    }
+
+    @Test
+    void testSeatPrice_SkipsComponentOfOtherDay() {
+        // Arrange
+        Pricing weekend = rule("Weekend", PricingType.FIXED, 300);
+        weekend.setDayOfWeek(DayOfWeek.SATURDAY);
+
+        // Act
+        PricingPlan monday = PricingPlan.compile(MONDAY_MORNING, List.of(weekend));
+        PricingPlan saturday = PricingPlan.compile(MONDAY_MORNING.plusDays(5), List.of(weekend));
+
+        // Assert
+        assertEquals(1500, monday.seatPrice(1500, 1));
+        assertEquals(1800, saturday.seatPrice(1500, 1));
+    }
+
+    @Test
+    void testSeatPrice_TimeWindowWrappingPastMidnight() {
+        // Arrange
+        Pricing night = rule("Night", PricingType.PERCENTAGE, 20);
+        night.setFromTime(LocalTime.of(22, 0));
+        night.setToTime(LocalTime.of(2, 0));
+        LocalDateTime evening = MONDAY_MORNING.with(LocalTime.of(23, 30));
+        LocalDateTime earlyMorning = MONDAY_MORNING.with(LocalTime.of(1, 0));
+        LocalDateTime endOfWindow = MONDAY_MORNING.with(LocalTime.of(2, 0));
+
+        // Act & Assert
+        assertEquals(1800, PricingPlan.compile(evening, List.of(night)).seatPrice(1500, 1));
+        assertEquals(1800, PricingPlan.compile(earlyMorning, List.of(night)).seatPrice(1500, 1));
+        assertEquals(1500, PricingPlan.compile(endOfWindow, List.of(night)).seatPrice(1500, 1));
+        assertEquals(1500, PricingPlan.compile(MONDAY_MORNING, List.of(night)).seatPrice(1500, 1));
+    }
+
+    @Test
+    void testSeatPrice_AppliesRowTierOnlyToItsRows() {
+        // Arrange
+        Pricing frontRows = rule("Front", PricingType.FIXED, -300);
+        frontRows.setMinRow(1);
+        frontRows.setMaxRow(2);
+        Pricing backRows = rule("Back", PricingType.PERCENTAGE, 10);
+        backRows.setMinRow(10);
+
+        // Act
+        PricingPlan plan = PricingPlan.compile(MONDAY_MORNING, List.of(frontRows, backRows));
+
+        // Assert
+        assertTrue(plan.dependsOnRow());
+        assertEquals(1200, plan.seatPrice(1500, 2));
+        assertEquals(1500, plan.seatPrice(1500, 3));
+        assertEquals(1650, plan.seatPrice(1500, 20));
+    }
+
+    @Test
+    void testRowPrices_PricesEveryRowOfTheRoom() {
+        // Arrange
+        Pricing frontRows = rule("Front", PricingType.FIXED, -300);
+        frontRows.setMaxRow(2);
+
+        // Act
+        int[] tiered = PricingPlan.compile(MONDAY_MORNING, List.of(frontRows)).rowPrices(1500, 4);
+        int[] flat = PricingPlan.compile(MONDAY_MORNING, List.of()).rowPrices(1500, 3);
+
+        // Assert
+        assertArrayEquals(new int[] {1200, 1200, 1500, 1500}, tiered);
+        assertArrayEquals(new int[] {1500, 1500, 1500}, flat);
+    }
+
+    @Test
+    void testSeatPrice_TreatsComponentWithoutTypeAsFixed() {
+        // Arrange
+        Pricing legacy = new Pricing("Legacy", 200);
+        legacy.setType(null);
+
+        // Act
+        PricingPlan plan = PricingPlan.compile(MONDAY_MORNING, List.of(legacy));
+
+        // Assert
+        assertEquals(1700, plan.seatPrice(1500, 1));
+    }
+
+    private Pricing rule(String name, PricingType type, int amount) {
+        Pricing pricing = new Pricing(name, amount);
+        pricing.setType(type);
+        return pricing;
+    }
+
+}
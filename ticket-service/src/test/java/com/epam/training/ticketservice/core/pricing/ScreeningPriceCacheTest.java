@@ -0,0 +1,175 @@
+package com.epam.training.ticketservice.core.pricing;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.enums.PricingTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScreeningPriceCacheTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    private static final long TTL_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final ScreeningPriceCache priceCache = new ScreeningPriceCache(TTL_MILLIS, now::get);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Screening inPedersoli;
+
+    private Screening inGirotti;
+
+    @BeforeEach
+    void setUp() {
+        Movie movie = new Movie("Sátántangó", "drama", 450);
+        movie.setId(1L);
+        Room pedersoli = new Room("Pedersoli", 20, 10);
+        pedersoli.setId(10L);
+        Room girotti = new Room("Girotti", 10, 10);
+        girotti.setId(11L);
+        inPedersoli = screening(100L, movie, pedersoli);
+        inGirotti = screening(101L, movie, girotti);
+        priceCache.getPlan(inPedersoli, this::load);
+        priceCache.getPlan(inGirotti, this::load);
+        loads.set(0);
+    }
+
+    @Test
+    void testGetPlan_WhenCached_DoesNotCompileAgain() {
+        // Act
+        PricingPlan plan = priceCache.getPlan(inPedersoli, this::load);
+
+        // Assert
+        assertEquals(1600, plan.seatPrice(1500, 1));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void testGetPlan_WhenEvictionRunsDuringCompile_ThenPlanIsNotCached() {
+        // Arrange
+        priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.ROOM, 10L));
+        loads.set(0);
+
+        // Act
+        priceCache.getPlan(inPedersoli, screening -> {
+            PricingPlan stale = load(screening);
+            priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.ROOM, 10L));
+            return stale;
+        });
+        priceCache.getPlan(inPedersoli, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isPresent());
+    }
+
+    @Test
+    void testFindPlan_ByNaturalKey() {
+        // Act
+        Optional<PricingPlan> cached = priceCache.findPlan("Sátántangó", "Girotti", START_TIME);
+        Optional<PricingPlan> missing = priceCache.findPlan("Sátántangó", "Girotti", START_TIME.plusDays(1));
+
+        // Assert
+        assertTrue(cached.isPresent());
+        assertTrue(missing.isEmpty());
+    }
+
+    @Test
+    void testOnPricingComponentAttached_ToRoom_EvictsOnlyScreeningsOfThatRoom() {
+        // Act
+        priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.ROOM, 10L));
+
+        // Assert
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isEmpty());
+        assertTrue(priceCache.findPlan("Sátántangó", "Girotti", START_TIME).isPresent());
+        assertEquals(1, priceCache.countIndexedScreenings());
+    }
+
+    @Test
+    void testOnPricingComponentAttached_ToMovie_EvictsAllScreeningsOfThatMovie() {
+        // Act
+        priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.MOVIE, 1L));
+
+        // Assert
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isEmpty());
+        assertTrue(priceCache.findPlan("Sátántangó", "Girotti", START_TIME).isEmpty());
+        assertEquals(0, priceCache.countIndexedScreenings());
+    }
+
+    @Test
+    void testOnPricingComponentAttached_ToScreening_EvictsOnlyThatScreening() {
+        // Act
+        priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.SCREENING, 101L));
+        priceCache.getPlan(inGirotti, this::load);
+
+        // Assert
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isPresent());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testOnScreeningDeleted_DropsNaturalKeyIndex() {
+        // Act
+        priceCache.onScreeningDeleted(new ScreeningDeletedEvent(100L));
+
+        // Assert
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isEmpty());
+    }
+
+    @Test
+    void testGetPlan_WhenExpired_ThenCompilesAgain() {
+        // Arrange
+        now.addAndGet(TTL_MILLIS);
+
+        // Act
+        boolean foundExpired = priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isPresent();
+        priceCache.getPlan(inPedersoli, this::load);
+        priceCache.getPlan(inPedersoli, this::load);
+
+        // Assert
+        assertFalse(foundExpired);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testDropExpired_DropsOnlyExpiredPlansAndTheirNaturalKeys() {
+        // Arrange
+        now.addAndGet(TTL_MILLIS / 2);
+        priceCache.onPricingComponentAttached(new PricingComponentAttachedEvent(PricingTarget.SCREENING, 101L));
+        priceCache.getPlan(inGirotti, this::load);
+        now.addAndGet(TTL_MILLIS / 2);
+
+        // Act
+        priceCache.dropExpired();
+
+        // Assert
+        assertTrue(priceCache.findPlan("Sátántangó", "Pedersoli", START_TIME).isEmpty());
+        assertTrue(priceCache.findPlan("Sátántangó", "Girotti", START_TIME).isPresent());
+        assertEquals(1, priceCache.countIndexedScreenings());
+    }
+
+    private PricingPlan load(Screening screening) {
+        loads.incrementAndGet();
+        return PricingPlan.compile(screening.getStartTime(), List.of(new Pricing("Extra", 100)));
+    }
+
+    private static Screening screening(Long id, Movie movie, Room room) {
+        Screening screening = new Screening(movie, room, START_TIME);
+        screening.setId(id);
+        return screening;
+    }
+
+}
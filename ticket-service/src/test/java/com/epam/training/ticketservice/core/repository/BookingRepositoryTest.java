@@ -0,0 +1,67 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class BookingRepositoryTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    private Screening screening;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("sanyi", "asdQWE123", Role.USER));
+        Movie movie = entityManager.persist(new Movie("Movie", "drama", 120));
+        Room room = entityManager.persist(new Room("Room", 10, 10));
+        screening = entityManager.persist(new Screening(movie, room, START_TIME));
+    }
+
+    @Test
+    void testSave_WhenSeatIsAlreadyBookedForTheScreening_ThenDatabaseRefusesIt() {
+        // Arrange
+        bookingRepository.saveAndFlush(new Booking(user, screening, List.of(1, 2), 3000, START_TIME));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () ->
+                bookingRepository.saveAndFlush(new Booking(user, screening, List.of(2, 3), 3000, START_TIME)));
+    }
+
+    @Test
+    void testSave_WhenSeatsDiffer_ThenBothBookingsAreSaved() {
+        // Arrange
+        bookingRepository.saveAndFlush(new Booking(user, screening, List.of(1, 2), 3000, START_TIME));
+
+        // Act
+        bookingRepository.saveAndFlush(new Booking(user, screening, List.of(3), 1500, START_TIME));
+
+        // Assert
+        assertEquals(List.of(1, 2, 3), bookingRepository.findBookedSeatsByScreening(screening).stream()
+                .sorted().toList());
+    }
+
+}
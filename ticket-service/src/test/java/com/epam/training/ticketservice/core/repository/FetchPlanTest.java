@@ -0,0 +1,179 @@
+package com.epam.training.ticketservice.core.repository;
+
+import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.schedule.ScheduledScreening;
+import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class FetchPlanTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    @Autowired
+    private ScreeningRepository screeningRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Room firstRoom;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Pricing extra = entityManager.persist(new Pricing("Extra", 100));
+        user = entityManager.persist(new User("sanyi", "asdQWE123", Role.USER));
+
+        for (int i = 0; i < 20; i++) {
+            Movie movie = new Movie("Movie " + i, "drama", 120);
+            movie.setPricingComponents(new HashSet<>(Set.of(extra)));
+            Room room = new Room("Room " + i, 10, 10);
+            room.setPricingComponents(new HashSet<>(Set.of(extra)));
+            Screening screening = new Screening(entityManager.persist(movie), entityManager.persist(room), START_TIME);
+            screening.setPricingComponents(new HashSet<>(Set.of(extra)));
+            entityManager.persist(screening);
+            entityManager.persist(new Booking(user, screening, new ArrayList<>(List.of(i)), 1500, START_TIME));
+            if (i == 0) {
+                firstRoom = room;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAll_ListsScreeningsWithOneStatement() {
+        // Act
+        List<Screening> screenings = screeningRepository.findAll();
+
+        // Assert
+        assertEquals(20, screenings.size());
+        Screening third = screenings.stream()
+                .filter(screening -> screening.getMovie().getTitle().equals("Movie 3"))
+                .findFirst().orElseThrow();
+        assertEquals("Room 3", third.getRoom().getName());
+        assertFalse(Hibernate.isInitialized(screenings.get(0).getPricingComponents()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindScheduleOfRoomFrom_LoadsTimeSlotsWithOneStatement() {
+        // Act
+        List<ScheduledScreening> schedule = screeningRepository.findScheduleOfRoomFrom(firstRoom, START_TIME);
+
+        // Assert
+        assertEquals(List.of(new ScheduledScreening(START_TIME, 120)), schedule);
+        assertEquals(List.of(), screeningRepository.findScheduleOfRoomFrom(firstRoom, START_TIME.plusMinutes(1)));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindScheduleOfRoomBetween_LoadsTimeSlotsOfTheRange() {
+        // Act
+        List<ScheduledScreening> schedule =
+                screeningRepository.findScheduleOfRoomBetween(firstRoom, START_TIME, START_TIME.plusMinutes(1));
+
+        // Assert
+        assertEquals(List.of(new ScheduledScreening(START_TIME, 120)), schedule);
+        assertEquals(List.of(), screeningRepository.findScheduleOfRoomBetween(firstRoom,
+                START_TIME.minusMinutes(10), START_TIME));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByMovieTitleAndRoomNameAndStartTime_LoadsScreeningWithOneStatement() {
+        // Act
+        Optional<Screening> screening =
+                screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie 5", "Room 5", START_TIME);
+
+        // Assert
+        assertTrue(screening.isPresent());
+        assertEquals(10, screening.get().getRoom().getColumns());
+        assertFalse(Hibernate.isInitialized(screening.get().getPricingComponents()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindWithPricingComponentsByTitle_LoadsComponentsWithOneStatement() {
+        // Act
+        Optional<Movie> movie = movieRepository.findWithPricingComponentsByTitle("Movie 5");
+
+        // Assert
+        assertTrue(movie.isPresent());
+        assertEquals(1, movie.get().getPricingComponents().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllByUser_ListsBookingsWithOneStatement() {
+        // Act
+        List<Booking> bookings = bookingRepository.findAllByUser(user);
+
+        // Assert
+        assertEquals(20, bookings.size());
+        bookings.forEach(booking -> assertEquals(1, booking.getSeats().size()));
+        assertEquals("Room 0", bookings.stream().filter(b -> b.getSeats().get(0) == 0)
+                .findFirst().orElseThrow().getScreening().getRoom().getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindPageIdsByUserAfter_ReadsBookingsPageByPageWithTwoStatementsEach() {
+        // Arrange
+        List<Integer> seats = new ArrayList<>();
+
+        // Act
+        List<Long> ids = bookingRepository.findPageIdsByUser(user, PageRequest.ofSize(8));
+        while (!ids.isEmpty()) {
+            List<Booking> page = bookingRepository.findAllByIdInOrderByBookingTimeAscIdAsc(ids);
+            page.forEach(booking -> seats.addAll(booking.getSeats()));
+            Booking last = page.get(page.size() - 1);
+            ids = bookingRepository.findPageIdsByUserAfter(user, last.getBookingTime(), last.getId(),
+                    PageRequest.ofSize(8));
+        }
+
+        // Assert
+        assertEquals(20, seats.size());
+        assertEquals(20, new HashSet<>(seats).size());
+        assertEquals(7, statistics.getPrepareStatementCount());
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.repository.MovieRepository;
+import com.epam.training.ticketservice.core.repository.ScreeningRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RoomScheduleRegistryTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2023, 12, 5, 14, 0);
+
+    @Mock
+    private ScreeningRepository screeningRepository;
+
+    @Mock
+    private MovieRepository movieRepository;
+
+    private LocalDateTime now;
+
+    private RoomScheduleRegistry roomScheduleRegistry;
+
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        now = START_TIME.plusMinutes(60);
+        roomScheduleRegistry = new RoomScheduleRegistry(screeningRepository, movieRepository, () -> now);
+        room = new Room("Room 1", 10, 10);
+        room.setId(1L);
+        when(movieRepository.findMaxLength()).thenReturn(Optional.of(180));
+        when(screeningRepository.findScheduleOfRoomFrom(room, now.minusMinutes(180)))
+                .thenReturn(List.of(new ScheduledScreening(START_TIME, 120)));
+    }
+
+    @Test
+    void testGetSchedule_LoadsEachRoomOnce() {
+        // Act
+        RoomSchedule first = roomScheduleRegistry.getSchedule(room);
+        RoomSchedule second = roomScheduleRegistry.getSchedule(room);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, first.size());
+        verify(screeningRepository, times(1)).findScheduleOfRoomFrom(room, now.minusMinutes(180));
+    }
+
+    @Test
+    void testGetSchedule_WhenEarlierTimeIsChecked_ThenOlderScreeningsAreLoadedOnce() {
+        // Arrange
+        LocalDateTime past = START_TIME.minusDays(1);
+        when(screeningRepository.findScheduleOfRoomBetween(room, past.minusMinutes(180), now))
+                .thenReturn(List.of(new ScheduledScreening(past, 90), new ScheduledScreening(START_TIME, 120)));
+        RoomSchedule schedule = roomScheduleRegistry.getSchedule(room);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING), schedule.tryAdd(past.plusMinutes(10), 60));
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK), schedule.tryAdd(past.plusMinutes(95), 60));
+        assertEquals(2, schedule.size());
+        verify(screeningRepository, times(1)).findScheduleOfRoomBetween(any(), any(), any());
+    }
+
+    @Test
+    void testDropEndedScreenings_KeepsOnlyScreeningsWhichHaveNotEnded() {
+        // Arrange
+        RoomSchedule schedule = roomScheduleRegistry.getSchedule(room);
+        schedule.add(START_TIME.plusMinutes(150), 90);
+        now = START_TIME.plusMinutes(120);
+
+        // Act
+        int dropped = roomScheduleRegistry.dropEndedScreenings();
+
+        // Assert
+        assertEquals(1, dropped);
+        assertEquals(1, schedule.size());
+        assertTrue(schedule.tryAdd(START_TIME, 60).isEmpty());
+    }
+
+    @Test
+    void testRemove_UpdatesLoadedSchedule() {
+        // Arrange
+        RoomSchedule schedule = roomScheduleRegistry.getSchedule(room);
+        Screening screening = new Screening(new Movie("Movie 1", "Action", 120), room, START_TIME);
+
+        // Act
+        roomScheduleRegistry.remove(screening);
+
+        // Assert
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    void testOnMovieLengthChanged_ReloadsSchedules() {
+        // Arrange
+        RoomSchedule stale = roomScheduleRegistry.getSchedule(room);
+
+        // Act
+        roomScheduleRegistry.onMovieLengthChanged(new MovieLengthChangedEvent(1L));
+
+        // Assert
+        assertNotSame(stale, roomScheduleRegistry.getSchedule(room));
+        verify(screeningRepository, times(2)).findScheduleOfRoomFrom(room, now.minusMinutes(180));
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomScheduleTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2023, 12, 5, 14, 0);
+
+    @Test
+    void testTryAdd_WhenRoomIsFree() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act
+        Optional<ScheduleConflict> conflict = schedule.tryAdd(START_TIME.plusMinutes(130), 90);
+
+        // Assert
+        assertTrue(conflict.isEmpty());
+        assertEquals(2, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenScreeningIsRunning() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING), schedule.tryAdd(START_TIME, 90));
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING), schedule.tryAdd(START_TIME.plusMinutes(119), 90));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenStartTimeIsInBreakPeriod() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK), schedule.tryAdd(START_TIME.plusMinutes(120), 90));
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK), schedule.tryAdd(START_TIME.plusMinutes(129), 90));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenNewScreeningWouldRunIntoTheNextOne() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING), schedule.tryAdd(START_TIME.minusMinutes(60), 90));
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING), schedule.tryAdd(START_TIME.minusMinutes(300), 450));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenNextScreeningWouldStartInTheBreak() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK), schedule.tryAdd(START_TIME.minusMinutes(90), 90));
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK), schedule.tryAdd(START_TIME.minusMinutes(95), 90));
+        assertTrue(schedule.tryAdd(START_TIME.minusMinutes(100), 90).isEmpty());
+        assertEquals(2, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenSlotBetweenTwoScreeningsIsFree() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+        schedule.add(START_TIME.plusMinutes(240), 120);
+
+        // Act
+        Optional<ScheduleConflict> conflict = schedule.tryAdd(START_TIME.plusMinutes(130), 100);
+
+        // Assert
+        assertTrue(conflict.isEmpty());
+        assertEquals(3, schedule.size());
+    }
+
+    @Test
+    void testTryAdd_WhenEarlierLongScreeningOutlastsTheLaterOnes() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(LocalDateTime.of(2023, 12, 5, 10, 0), 300);
+        schedule.add(LocalDateTime.of(2023, 12, 5, 11, 30), 60);
+
+        // Act & Assert
+        assertEquals(Optional.of(ScheduleConflict.OVERLAPPING),
+                schedule.tryAdd(LocalDateTime.of(2023, 12, 5, 13, 0), 60));
+        assertEquals(Optional.of(ScheduleConflict.IN_BREAK),
+                schedule.tryAdd(LocalDateTime.of(2023, 12, 5, 15, 5), 60));
+        assertTrue(schedule.tryAdd(LocalDateTime.of(2023, 12, 5, 15, 10), 60).isEmpty());
+        assertEquals(3, schedule.size());
+    }
+
+    @Test
+    void testGetScreenings_IncludesEarlierScreeningsStillRunningInTheWindow() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(LocalDateTime.of(2023, 12, 5, 10, 0), 300);
+        schedule.add(LocalDateTime.of(2023, 12, 5, 11, 30), 60);
+        schedule.add(LocalDateTime.of(2023, 12, 5, 16, 0), 60);
+
+        // Act
+        List<ScheduledScreening> screenings =
+                schedule.getScreenings(LocalDateTime.of(2023, 12, 5, 13, 0), LocalDateTime.of(2023, 12, 5, 17, 0));
+
+        // Assert
+        assertEquals(List.of(new ScheduledScreening(LocalDateTime.of(2023, 12, 5, 10, 0), 300),
+                new ScheduledScreening(LocalDateTime.of(2023, 12, 5, 16, 0), 60)), screenings);
+    }
+
+    @Test
+    void testRemove_FreesTheTimeSlot() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(START_TIME, 120);
+
+        // Act
+        schedule.remove(START_TIME);
+
+        // Assert
+        assertEquals(0, schedule.size());
+        assertTrue(schedule.tryAdd(START_TIME.plusMinutes(30), 90).isEmpty());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.epam.training.ticketservice.core.schedule;
+
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleGeneratorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2023, 12, 5);
+
+    private final ScheduleGenerator scheduleGenerator = new ScheduleGenerator("10:00", "23:00");
+
+    @Test
+    void testGenerate_PacksScreeningsBackToBackLongestFirst() {
+        // Arrange
+        Room room = new Room("Room 1", 10, 10);
+        Movie tenet = new Movie("Tenet", "action", 150);
+        Movie short1 = new Movie("Short", "drama", 90);
+        Map<Movie, Integer> targets = new LinkedHashMap<>();
+        targets.put(short1, 2);
+        targets.put(tenet, 3);
+
+        // Act
+        List<Screening> screenings = scheduleGenerator.generate(Map.of(room, new RoomSchedule()), targets, DAY, DAY);
+
+        // Assert
+        assertEquals(List.of(DAY.atTime(10, 0), DAY.atTime(12, 40), DAY.atTime(15, 20), DAY.atTime(18, 0),
+                        DAY.atTime(19, 40)),
+                screenings.stream().map(Screening::getStartTime).collect(Collectors.toList()));
+        assertEquals(List.of(tenet, tenet, tenet, short1, short1),
+                screenings.stream().map(Screening::getMovie).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testGenerate_FillsTheGapsAroundExistingScreenings() {
+        // Arrange
+        Room room = new Room("Room 1", 10, 10);
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(DAY.atTime(14, 0), 120);
+        Movie movie = new Movie("Long movie", "drama", 200);
+
+        // Act
+        List<Screening> screenings = scheduleGenerator.generate(Map.of(room, schedule), Map.of(movie, 4), DAY, DAY);
+
+        // Assert
+        assertEquals(Set.of(DAY.atTime(10, 0), DAY.atTime(16, 10), DAY.atTime(19, 40)),
+                screenings.stream().map(Screening::getStartTime).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testGenerate_SpreadsScreeningsAcrossRoomsAndDays() {
+        // Arrange
+        Room room1 = new Room("Room 1", 10, 10);
+        Room room2 = new Room("Room 2", 10, 10);
+        Movie movie = new Movie("Movie", "drama", 90);
+
+        // Act
+        List<Screening> screenings = scheduleGenerator.generate(
+                Map.of(room1, new RoomSchedule(), room2, new RoomSchedule()), Map.of(movie, 4), DAY, DAY.plusDays(1));
+
+        // Assert
+        assertEquals(4, screenings.stream()
+                .map(screening -> screening.getRoom().getName() + screening.getStartTime().toLocalDate())
+                .distinct()
+                .count());
+    }
+
+    @Test
+    void testGenerate_ProducesScreeningsTheRoomSchedulesAccept() {
+        // Arrange
+        Random random = new Random(42);
+        Map<Room, RoomSchedule> schedules = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            RoomSchedule schedule = new RoomSchedule();
+            for (int day = 0; day < 14; day++) {
+                LocalDateTime startTime = DAY.plusDays(day).atTime(9 + random.nextInt(12), random.nextInt(60));
+                schedule.tryAdd(startTime, 60 + random.nextInt(120));
+            }
+            schedules.put(new Room("Room " + i, 10, 10), schedule);
+        }
+        Map<Movie, Integer> targets = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            targets.put(new Movie("Movie " + i, "drama", 80 + 10 * i), 40);
+        }
+
+        // Act
+        List<Screening> screenings = scheduleGenerator.generate(schedules, targets, DAY, DAY.plusDays(13));
+
+        // Assert
+        assertFalse(screenings.isEmpty());
+        for (Screening screening : screenings) {
+            assertFalse(screening.getStartTime().toLocalTime().isBefore(LocalTime.of(10, 0)));
+            assertFalse(screening.getStartTime().plusMinutes(screening.getMovie().getLength()).toLocalTime()
+                    .isAfter(LocalTime.of(23, 0)));
+            assertTrue(schedules.get(screening.getRoom())
+                    .tryAdd(screening.getStartTime(), screening.getMovie().getLength()).isEmpty());
+        }
+    }
+
+}
@@ -3,26 +3,53 @@ package com.epam.training.ticketservice.core.service.impl;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.epam.training.ticketservice.core.booking.BookingHistoryCache;
+import com.epam.training.ticketservice.core.booking.SeatHold;
+import com.epam.training.ticketservice.core.booking.SeatHoldRegistry;
+import com.epam.training.ticketservice.core.booking.SeatMap;
+import com.epam.training.ticketservice.core.booking.SeatMapRegistry;
+import com.epam.training.ticketservice.core.booking.SeatReservationEngine;
+import com.epam.training.ticketservice.core.booking.StripedLockReservationEngine;
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.BookingMapper;
+import com.epam.training.ticketservice.core.mapper.MovieMapper;
+import com.epam.training.ticketservice.core.mapper.RoomMapper;
+import com.epam.training.ticketservice.core.mapper.ScreeningMapper;
+import com.epam.training.ticketservice.core.mapper.UserMapper;
 import com.epam.training.ticketservice.core.model.Booking;
+import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.Seat;
 import com.epam.training.ticketservice.core.model.User;
+import com.epam.training.ticketservice.core.model.enums.Role;
+import com.epam.training.ticketservice.core.model.dto.BookingCursor;
 import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.BookingPageDto;
+import com.epam.training.ticketservice.core.model.dto.BookingRequest;
+import com.epam.training.ticketservice.core.model.dto.SeatAvailabilityDto;
+import com.epam.training.ticketservice.core.model.dto.SeatHoldDto;
 import com.epam.training.ticketservice.core.model.dto.UserDto;
 import com.epam.training.ticketservice.core.repository.BookingRepository;
 import com.epam.training.ticketservice.core.repository.ScreeningRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.epam.training.ticketservice.core.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class BookingServiceImplTest {
 
@@ -32,18 +59,41 @@ class BookingServiceImplTest {
     @Mock
     private ScreeningRepository screeningRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SeatMapRegistry seatMapRegistry;
+
+    @Mock
+    private SeatHoldRegistry seatHoldRegistry;
+
+    @Spy
+    private BookingHistoryCache bookingHistoryCache = new BookingHistoryCache(100, 60_000);
+
+    @Spy
+    private SeatReservationEngine reservationEngine = new StripedLockReservationEngine(16);
+
     @Mock
     private UserServiceImpl userService;
 
+    @Mock
+    private PricingServiceImpl pricingService;
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    @Spy
+    private BookingMapper bookingMapper =
+            new BookingMapper(new UserMapper(), new ScreeningMapper(new MovieMapper(), new RoomMapper()));
+
+    @Spy
+    private UserMapper userMapper = new UserMapper();
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(pricingService.calculateSeatPrice(any(), anyInt())).thenReturn(1500);
     }
 
     @Test
@@ -53,23 +103,24 @@ class BookingServiceImplTest {
         String movieTitle = "Movie";
         String roomName = "Room";
         LocalDateTime startTime = LocalDateTime.now();
-        List<String> seats = List.of("1,1");
+        List<Seat> seats = List.of(new Seat(1, 1));
         UserDto userDto = new UserDto(username, null, "USER");
         Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 10, 10));
 
         when(userService.getAuthenticatedUser(username))
                 .thenReturn(Result.success(userDto));
         when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
                 .thenReturn(Optional.of(screening));
-        when(bookingRepository.existsByScreeningAndSeatsContaining(eq(screening), anyString()))
-                .thenReturn(false);
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
 
         // Act
         Result<BookingDto> result = bookingService.createBooking(username, movieTitle, roomName, startTime, seats);
 
         // Assert
         assertTrue(result.isSuccess());
-        verify(bookingRepository, times(1)).save(any(Booking.class));
+        assertEquals(List.of("1,1"), result.getData().getSeats());
+        verify(bookingRepository, times(1)).save(argThat(booking -> booking.getSeats().equals(List.of(0))));
     }
 
     @Test
@@ -79,7 +130,7 @@ class BookingServiceImplTest {
         String movieTitle = "Movie";
         String roomName = "Room";
         LocalDateTime startTime = LocalDateTime.now();
-        List<String> seats = List.of("1,1");
+        List<Seat> seats = List.of(new Seat(1, 1));
 
         when(userService.getAuthenticatedUser(username))
                 .thenReturn(Result.failure("User is not authenticated"));
@@ -98,8 +149,10 @@ class BookingServiceImplTest {
         // Arrange
         String username = "user";
         UserDto userDto = new UserDto(username, null, "USER");
-        User user = objectMapper.convertValue(userDto, User.class);
-        Booking booking = new Booking(user, new Screening(), List.of("1,1"), 1500, LocalDateTime.now());
+        User user = userMapper.toEntity(userDto);
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 20, 10));
+        Booking booking = new Booking(user, screening, List.of(44, 45), 3000, LocalDateTime.now());
 
         when(userService.getAuthenticatedUser(username))
                 .thenReturn(Result.success(userDto));
@@ -112,6 +165,7 @@ class BookingServiceImplTest {
         // Assert
         assertTrue(result.isSuccess());
         assertEquals(1, result.getData().size());
+        assertEquals(List.of("5,5", "5,6"), result.getData().get(0).getSeats());
     }
 
     @Test
@@ -119,7 +173,7 @@ class BookingServiceImplTest {
         // Arrange
         String username = "user";
         UserDto userDto = new UserDto(username, null, "USER");
-        User user = objectMapper.convertValue(userDto, User.class);
+        User user = userMapper.toEntity(userDto);
 
         when(userService.getAuthenticatedUser(username))
                 .thenReturn(Result.success(userDto));
@@ -134,15 +188,103 @@ class BookingServiceImplTest {
         assertTrue(result.getData().isEmpty());
     }
 
+    @Test
+    void testGetBookingsByUser_WhenCalledTwice_ThenBookingsAreLoadedOnce() {
+        // Arrange
+        String username = "user";
+        UserDto userDto = new UserDto(username, null, "USER");
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(userDto));
+        when(bookingRepository.findAllByUser(any()))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        bookingService.getBookingsByUser(username);
+        Result<List<BookingDto>> result = bookingService.getBookingsByUser(username);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertTrue(result.getData().isEmpty());
+        verify(bookingRepository, times(1)).findAllByUser(any());
+    }
+
+    @Test
+    void testGetBookingsByUser_WhenUserBooksAfterLoad_ThenBookingIsAppended() {
+        // Arrange
+        String username = "user";
+        UserDto userDto = new UserDto(username, null, "USER");
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 10, 10));
+        LocalDateTime startTime = LocalDateTime.now();
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(userDto));
+        when(bookingRepository.findAllByUser(any()))
+                .thenReturn(Collections.emptyList());
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
+        bookingService.getBookingsByUser(username);
+
+        // Act
+        bookingService.createBooking(username, "Movie", "Room", startTime, List.of(new Seat(1, 1)));
+        Result<List<BookingDto>> result = bookingService.getBookingsByUser(username);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getData().size());
+        assertEquals(List.of("1,1"), result.getData().get(0).getSeats());
+        verify(bookingRepository, times(1)).findAllByUser(any());
+    }
+
+    @Test
+    void testCreateBooking_WhenTransactionRollsBack_ThenSeatsAreReleasedAndHistoryIsUnchanged() {
+        // Arrange
+        String username = "user";
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        LocalDateTime startTime = LocalDateTime.now();
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(new UserDto(username, null, "USER")));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        bookingHistoryCache.load(username, List::of);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            Result<BookingDto> result =
+                    bookingService.createBooking(username, "Movie", "Room", startTime, List.of(new Seat(1, 1)));
+            List<BookingDto> historyBeforeCompletion = bookingHistoryCache.find(username).orElseThrow();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            assertTrue(result.isSuccess());
+            assertEquals(List.of(), historyBeforeCompletion);
+            assertEquals(0, seatMap.countTaken());
+            assertEquals(List.of(), bookingHistoryCache.find(username).orElseThrow());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void testProcessBooking_WhenSeatIsAlreadyTaken() {
         // Arrange
         String username = "user";
         Screening screening = new Screening();
-        List<String> seats = List.of("1,1", "1,2");
+        List<Seat> seats = List.of(new Seat(1, 1), new Seat(1, 2));
         UserDto userDto = new UserDto(username, null, "USER");
+        SeatMap seatMap = new SeatMap(10, 10);
+        seatMap.reserve(seatMap.indexOf(new Seat(1, 1)));
 
-        when(bookingRepository.existsByScreeningAndSeatsContaining(screening, "1,1")).thenReturn(true);
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
 
         // Act
         Result<BookingDto> result = invokeProcessBooking(userDto, screening, seats);
@@ -153,6 +295,115 @@ class BookingServiceImplTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void testProcessBooking_WhenSeatIsOutsideTheRoom() {
+        // Arrange
+        String username = "user";
+        Screening screening = new Screening();
+        List<Seat> seats = List.of(new Seat(1, 1), new Seat(11, 2));
+        UserDto userDto = new UserDto(username, null, "USER");
+
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
+
+        // Act
+        Result<BookingDto> result = invokeProcessBooking(userDto, screening, seats);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Seat (11,2) does not exist in this room", result.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testProcessBooking_WhenSeatIsListedTwice() {
+        // Arrange
+        Screening screening = new Screening();
+        List<Seat> seats = List.of(new Seat(5, 5), new Seat(5, 5));
+        UserDto userDto = new UserDto("user", null, "USER");
+        SeatMap seatMap = new SeatMap(10, 10);
+
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+
+        // Act
+        Result<BookingDto> result = invokeProcessBooking(userDto, screening, seats);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Seat (5,5) is listed more than once", result.getMessage());
+        assertEquals(0, seatMap.countTaken());
+        verifyNoInteractions(reservationEngine);
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testProcessBooking_ReservesSeatsInSeatMapAfterSave() {
+        // Arrange
+        String username = "user";
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 10, 10));
+        List<Seat> seats = List.of(new Seat(2, 3), new Seat(2, 4));
+        UserDto userDto = new UserDto(username, null, "USER");
+        SeatMap seatMap = new SeatMap(10, 10);
+
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+
+        // Act
+        Result<BookingDto> result = invokeProcessBooking(userDto, screening, seats);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertTrue(seatMap.isTaken(seatMap.indexOf(new Seat(2, 3))));
+        assertTrue(seatMap.isTaken(seatMap.indexOf(new Seat(2, 4))));
+        assertEquals(2, seatMap.countTaken());
+        verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(bookingRepository, never()).findBookedSeatsByScreening(any(Screening.class));
+    }
+
+    @Test
+    void testProcessBooking_WhenSeatWasBookedOnAnotherNode_ThenSeatMapIsReloadedAndSeatIsTaken() {
+        // Arrange
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        List<Seat> seats = List.of(new Seat(2, 3), new Seat(2, 4));
+        UserDto userDto = new UserDto("user", null, "USER");
+        SeatMap stale = new SeatMap(10, 10);
+        SeatMap reloaded = new SeatMap(10, 10);
+        reloaded.reserve(reloaded.indexOf(new Seat(2, 4)));
+
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(stale, reloaded);
+        when(bookingRepository.save(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_seat_claims_screening_seat"));
+
+        // Act
+        Result<BookingDto> result = invokeProcessBooking(userDto, screening, seats);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Seat (2,4) is already taken", result.getMessage());
+        verify(seatMapRegistry).evict(1L);
+    }
+
+    @Test
+    void testProcessBooking_WhenSaveFails_ReleasesReservedSeats() {
+        // Arrange
+        String username = "user";
+        Screening screening = new Screening();
+        List<Seat> seats = List.of(new Seat(2, 3), new Seat(2, 4));
+        UserDto userDto = new UserDto(username, null, "USER");
+        SeatMap seatMap = new SeatMap(10, 10);
+
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        when(bookingRepository.save(any(Booking.class))).thenThrow(new IllegalStateException("Database is down"));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> invokeProcessBooking(userDto, screening, seats));
+        assertEquals("Database is down", exception.getCause().getCause().getMessage());
+        assertEquals(0, seatMap.countTaken());
+        verify(reservationEngine, times(1)).release(any(), eq(seatMap), any(int[].class));
+    }
+
     @Test
     void testGetBookingsByUser_WhenUserIsNotAuthenticated() {
         // Arrange
@@ -171,7 +422,86 @@ class BookingServiceImplTest {
     }
 
 
-    private Result<BookingDto> invokeProcessBooking(UserDto user, Screening screening, List<String> seats) {
+    @Test
+    void testGetBookingsByUser_WhenMoreBookingsFollow_ThenPageEndsWithCursor() {
+        // Arrange
+        String username = "user";
+        LocalDateTime bookingTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(new UserDto(username, null, "USER")));
+        when(bookingRepository.findPageIdsByUser(any(), eq(PageRequest.ofSize(3))))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(bookingRepository.findAllByIdInOrderByBookingTimeAscIdAsc(List.of(1L, 2L)))
+                .thenReturn(List.of(bookingWithId(1L, bookingTime), bookingWithId(2L, bookingTime)));
+
+        // Act
+        Result<BookingPageDto> result = bookingService.getBookingsByUser(username, null, 2);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(List.of(List.of("1,2"), List.of("1,3")), result.getData().getBookings().stream()
+                .map(BookingDto::getSeats).collect(Collectors.toList()));
+        assertEquals(new BookingCursor(bookingTime, 2L), result.getData().getNext());
+    }
+
+    @Test
+    void testStreamBookingsByUser_ReadsPagesLazily() {
+        // Arrange
+        String username = "user";
+        LocalDateTime bookingTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(new UserDto(username, null, "USER")));
+        when(bookingRepository.findPageIdsByUser(any(), any()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(bookingRepository.findPageIdsByUserAfter(any(), eq(bookingTime), eq(2L), any()))
+                .thenReturn(List.of(3L));
+        when(bookingRepository.findAllByIdInOrderByBookingTimeAscIdAsc(List.of(1L, 2L)))
+                .thenReturn(List.of(bookingWithId(1L, bookingTime), bookingWithId(2L, bookingTime)));
+        when(bookingRepository.findAllByIdInOrderByBookingTimeAscIdAsc(List.of(3L)))
+                .thenReturn(List.of(bookingWithId(3L, bookingTime)));
+
+        // Act
+        Result<Stream<BookingDto>> result = bookingService.streamBookingsByUser(username, 2);
+        List<BookingDto> firstTwo = bookingService.streamBookingsByUser(username, 2).getData()
+                .limit(2).collect(Collectors.toList());
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(2, firstTwo.size());
+        verify(bookingRepository, never()).findPageIdsByUserAfter(any(), any(), anyLong(), any());
+        assertEquals(List.of(List.of("1,2"), List.of("1,3"), List.of("1,4")), result.getData()
+                .map(BookingDto::getSeats).collect(Collectors.toList()));
+        verify(bookingRepository, times(1)).findPageIdsByUserAfter(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void testStreamBookingsByUser_WhenPageSizeIsNotPositive() {
+        // Arrange
+        String username = "user";
+
+        when(userService.getAuthenticatedUser(username))
+                .thenReturn(Result.success(new UserDto(username, null, "USER")));
+
+        // Act
+        Result<Stream<BookingDto>> result = bookingService.streamBookingsByUser(username, 0);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Page size must be positive.", result.getMessage());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private static Booking bookingWithId(Long id, LocalDateTime bookingTime) {
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 10, 10));
+        Booking booking = new Booking(new User(), screening, List.of(id.intValue()), 1500, bookingTime);
+        booking.setId(id);
+        return booking;
+    }
+
+    private Result<BookingDto> invokeProcessBooking(UserDto user, Screening screening, List<Seat> seats) {
         try {
             // Access private method via reflection
             Method method = BookingServiceImpl.class.getDeclaredMethod("processBooking", UserDto.class, Screening.class, List.class);
@@ -181,4 +511,329 @@ class BookingServiceImplTest {
             throw new RuntimeException("Reflection error: " + e.getMessage(), e);
         }
     }
+
+    @Test
+    void testCreateBookings_WhenUserIsNotAdmin() {
+        // Arrange
+        when(userService.checkAdminPrivileges()).thenReturn(Result.failure("Error: Admin privileges required."));
+
+        // Act
+        Result<List<Result<BookingDto>>> result = bookingService.createBookings(List.of(new BookingRequest()));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Admin privileges required.", result.getMessage());
+        verifyNoInteractions(userRepository, screeningRepository, bookingRepository);
+    }
+
+    @Test
+    void testCreateBookings_ResolvesEachUserAndScreeningOnceAndSavesTogether() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        User alice = new User("alice", "pw", Role.USER);
+        User bob = new User("bob", "pw", Role.USER);
+        List<BookingRequest> requests = List.of(
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("bob", "Movie", "Room", startTime, List.of(new Seat(1, 2), new Seat(1, 3))),
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(2, 1))));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.findByUsername("bob")).thenReturn(Optional.of(bob));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
+
+        // Act
+        Result<List<Result<BookingDto>>> result = bookingService.createBookings(requests);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getData().size());
+        assertTrue(result.getData().stream().allMatch(Result::isSuccess));
+        assertEquals(List.of("1,2", "1,3"), result.getData().get(1).getData().getSeats());
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(screeningRepository, times(1)).findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime);
+        verify(bookingRepository, times(1)).saveAllAndFlush(argThat(bookings -> ((List<Booking>) bookings).size() == 3));
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateBookings_ReportsFailuresPerRequest() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        User alice = new User("alice", "pw", Role.USER);
+        List<BookingRequest> requests = List.of(
+                new BookingRequest("ghost", "Movie", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("alice", "Other", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1))));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Other", "Room", startTime))
+                .thenReturn(Optional.empty());
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
+
+        // Act
+        Result<List<Result<BookingDto>>> result = bookingService.createBookings(requests);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals("Error: User 'ghost' does not exist.", result.getData().get(0).getMessage());
+        assertEquals("Error: Screening does not exist.", result.getData().get(1).getMessage());
+        assertTrue(result.getData().get(2).isSuccess());
+        assertEquals("Seat (1,1) is already taken", result.getData().get(3).getMessage());
+        verify(bookingRepository, times(1)).saveAllAndFlush(argThat(bookings -> ((List<Booking>) bookings).size() == 1));
+    }
+
+    @Test
+    void testCreateBookings_ReleasesAllSeatsWhenSaveFails() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        User alice = new User("alice", "pw", Role.USER);
+        List<BookingRequest> requests = List.of(
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 2))));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        when(bookingRepository.saveAllAndFlush(any())).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingService.createBookings(requests));
+        assertEquals(0, seatMap.countTaken());
+    }
+
+    @Test
+    void testCreateBookings_ReleasesEarlierSeatsWhenPricingFailsPartway() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        User alice = new User("alice", "pw", Role.USER);
+        List<BookingRequest> requests = List.of(
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1))),
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(2, 1))));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        when(pricingService.calculateSeatPrice(screening, 2)).thenThrow(new IllegalStateException("no price"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> bookingService.createBookings(requests));
+        assertEquals(0, seatMap.countTaken());
+        verify(bookingRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void testCreateBookings_WhenCommitFails_ThenSeatsAreReleasedAndHistoryIsUnchanged() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        User alice = new User("alice", "pw", Role.USER);
+        List<BookingRequest> requests = List.of(
+                new BookingRequest("alice", "Movie", "Room", startTime, List.of(new Seat(1, 1), new Seat(1, 2))));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        bookingHistoryCache.load("alice", List::of);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            Result<List<Result<BookingDto>>> result = bookingService.createBookings(requests);
+            int takenBeforeCompletion = seatMap.countTaken();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Assert
+            assertTrue(result.getData().get(0).isSuccess());
+            assertEquals(2, takenBeforeCompletion);
+            assertEquals(0, seatMap.countTaken());
+            assertEquals(List.of(), bookingHistoryCache.find("alice").orElseThrow());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testHoldSeats_ReservesSeatsAndRegistersHold() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        List<Seat> seats = List.of(new Seat(1, 1), new Seat(1, 2));
+
+        when(userService.getAuthenticatedUser("user")).thenReturn(Result.success(new UserDto("user", null, "USER")));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+        when(seatHoldRegistry.hold(eq("user"), eq(screening), eq(seatMap), any()))
+                .thenReturn(new SeatHold(7L, "user", screening, seatMap, new int[] {0, 1}, 0));
+
+        // Act
+        Result<SeatHoldDto> result = bookingService.holdSeats("user", "Movie", "Room", startTime, seats);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(7L, result.getData().getId());
+        assertEquals(List.of("1,1", "1,2"), result.getData().getSeats());
+        assertEquals(2, seatMap.countTaken());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void testConfirmHold_SavesBookingWithoutCheckingSeatsAgain() {
+        // Arrange
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setRoom(new Room("Room", 10, 10));
+        SeatMap seatMap = new SeatMap(10, 10);
+        seatMap.reserve(new int[] {0, 1});
+
+        when(userService.getAuthenticatedUser("user")).thenReturn(Result.success(new UserDto("user", null, "USER")));
+        when(seatHoldRegistry.claim(7L, "user"))
+                .thenReturn(Optional.of(new SeatHold(7L, "user", screening, seatMap, new int[] {0, 1}, 0)));
+
+        // Act
+        Result<BookingDto> result = bookingService.confirmHold("user", 7L);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(List.of("1,1", "1,2"), result.getData().getSeats());
+        verify(bookingRepository, times(1)).save(argThat(booking -> booking.getPrice() == 3000));
+        verify(reservationEngine, never()).reserve(any(), any(), any());
+        assertEquals(2, seatMap.countTaken());
+    }
+
+    @Test
+    void testConfirmHold_WhenHoldHasExpired() {
+        // Arrange
+        when(userService.getAuthenticatedUser("user")).thenReturn(Result.success(new UserDto("user", null, "USER")));
+        when(seatHoldRegistry.claim(7L, "user")).thenReturn(Optional.empty());
+
+        // Act
+        Result<BookingDto> result = bookingService.confirmHold("user", 7L);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Hold does not exist or has expired.", result.getMessage());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void testFindBestSeats_ReturnsCentralBlock() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 5, 10));
+
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(5, 10));
+
+        // Act
+        Result<List<Seat>> result = bookingService.findBestSeats("Movie", "Room", startTime, 2);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(List.of(new Seat(3, 5), new Seat(3, 6)), result.getData());
+    }
+
+    @Test
+    void testFindBestSeats_WhenNoBlockIsAvailable() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 1, 2));
+
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(1, 2));
+
+        // Act
+        Result<List<Seat>> result = bookingService.findBestSeats("Movie", "Room", startTime, 3);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: No 3 adjacent seats are available.", result.getMessage());
+    }
+
+    @Test
+    void testGetSeatAvailability_ReturnsOccupancySnapshot() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 2, 3));
+        SeatMap seatMap = new SeatMap(2, 3);
+        seatMap.reserve(new int[] {1, 5});
+
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(seatMap);
+
+        // Act
+        Result<SeatAvailabilityDto> result = bookingService.getSeatAvailability("Movie", "Room", startTime);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getData().getRows());
+        assertEquals(3, result.getData().getColumns());
+        assertEquals(4, result.getData().getFreeSeats());
+        assertArrayEquals(new long[] {0b100010L}, result.getData().getOccupancy());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void testCreateBooking_UsesSeatPriceOfScreening() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.now();
+        Screening screening = new Screening();
+        screening.setRoom(new Room("Room", 10, 10));
+
+        when(userService.getAuthenticatedUser("user")).thenReturn(Result.success(new UserDto("user", null, "USER")));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Movie", "Room", startTime))
+                .thenReturn(Optional.of(screening));
+        when(seatMapRegistry.getSeatMap(screening)).thenReturn(new SeatMap(10, 10));
+        when(pricingService.calculateSeatPrice(eq(screening), anyInt())).thenReturn(1800);
+
+        // Act
+        Result<BookingDto> result = bookingService.createBooking("user", "Movie", "Room", startTime,
+                List.of(new Seat(1, 1), new Seat(1, 2)));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(bookingRepository, times(1)).save(argThat(booking -> booking.getPrice() == 3600));
+    }
+
 }
@@ -4,15 +4,17 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.MovieMapper;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.dto.MovieDto;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.epam.training.ticketservice.core.schedule.MovieLengthChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,11 +27,14 @@ class MovieServiceImplTest {
     @Mock
     private UserServiceImpl userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MovieServiceImpl movieService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private MovieMapper movieMapper;
 
     @BeforeEach
     void setUp() {
@@ -52,7 +57,7 @@ class MovieServiceImplTest {
                 .thenReturn(Optional.empty());
         when(movieRepository.save(any(Movie.class)))
                 .thenReturn(movie);
-        when(objectMapper.convertValue(movie, MovieDto.class))
+        when(movieMapper.toDto(movie))
                 .thenReturn(movieDto);
 
         // Act
@@ -154,7 +159,7 @@ class MovieServiceImplTest {
         when(movieRepository.findByTitle(title))
                 .thenReturn(Optional.of(existingMovie));
         when(movieRepository.save(existingMovie)).thenReturn(updatedMovie);
-        when(objectMapper.convertValue(updatedMovie, MovieDto.class)).thenReturn(updatedMovieDto);
+        when(movieMapper.toDto(updatedMovie)).thenReturn(updatedMovieDto);
 
         // Act
         Result<MovieDto> result = movieService.updateMovie(title, newGenre, newLength);
@@ -164,6 +169,27 @@ class MovieServiceImplTest {
         assertEquals(newGenre, result.getData().getGenre());
         assertEquals(newLength, result.getData().getLength());
         verify(movieRepository, times(1)).save(existingMovie);
+        verify(eventPublisher).publishEvent(new MovieLengthChangedEvent(existingMovie.getId()));
+    }
+
+    @Test
+    void testUpdateMovie_WhenLengthIsUnchanged() {
+        // Arrange
+        String title = "Test Movie";
+        Movie existingMovie = new Movie(title, "Action", 120);
+
+        when(userService.checkAdminPrivileges())
+                .thenReturn(Result.success(null));
+        when(movieRepository.findByTitle(title))
+                .thenReturn(Optional.of(existingMovie));
+
+        // Act
+        Result<MovieDto> result = movieService.updateMovie(title, "Drama", 120);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(movieRepository, times(1)).save(existingMovie);
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.epam.training.ticketservice.core.service.impl;
+
+import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.Movie;
+import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.Room;
+import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
+import com.epam.training.ticketservice.core.pricing.PricingConfigurationCache;
+import com.epam.training.ticketservice.core.pricing.ScreeningPriceCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PricingServiceImpl.class, ScreeningPriceCache.class, PricingConfigurationCache.class})
+class PricingServiceImplQueryCountTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+    @Autowired
+    private PricingServiceImpl pricingService;
+
+    @Autowired
+    private PricingConfigurationCache pricingConfigurationCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Pricing extra = entityManager.persist(new Pricing("Extra", 100));
+        Pricing premium = entityManager.persist(new Pricing("Premium", 200));
+
+        for (int i = 0; i < 20; i++) {
+            Movie movie = entityManager.persist(movie("Movie " + i, extra));
+            Room room = entityManager.persist(room("Room " + i, premium));
+            entityManager.persist(screening(movie, room, Set.of(extra, premium)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        pricingConfigurationCache.getBasePrice();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testCalculatePrice_LoadsOnlyTheScreeningAndItsComponents() {
+        // Act (every test prices its own screening, as the plan cache outlives the rolled back data)
+        Result<Integer> result = pricingService.calculatePrice("Movie 3", "Room 3", START_TIME, List.of("1,1"));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1500 + 100 + 200 + 100 + 200, result.getData());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but was " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCalculatePrice_WhenPlanIsCached_RunsNoStatement() {
+        // Arrange
+        pricingService.calculatePrice("Movie 7", "Room 7", START_TIME, List.of("1,1"));
+        statistics.clear();
+
+        // Act
+        Result<Integer> result = pricingService.calculatePrice("Movie 7", "Room 7", START_TIME, List.of("1,1"));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testQuotePrices_LoadsScreeningsAndEachComponentSetWithOneStatement() {
+        // Act
+        Result<List<PriceQuoteDto>> result = pricingService.quotePrices(START_TIME, START_TIME.plusMinutes(1));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(20, result.getData().size());
+        result.getData().forEach(quote -> assertEquals(1500 + 100 + 200 + 100 + 200, quote.getRowPrices()[0]));
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private Movie movie(String title, Pricing component) {
+        Movie movie = new Movie(title, "drama", 120);
+        movie.setPricingComponents(new HashSet<>(Set.of(component)));
+        return movie;
+    }
+
+    private Room room(String name, Pricing component) {
+        Room room = new Room(name, 10, 10);
+        room.setPricingComponents(new HashSet<>(Set.of(component)));
+        return room;
+    }
+
+    private Screening screening(Movie movie, Room room, Set<Pricing> components) {
+        Screening screening = new Screening(movie, room, START_TIME);
+        screening.setPricingComponents(new HashSet<>(components));
+        return screening;
+    }
+
+}
@@ -5,10 +5,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.epam.training.ticketservice.core.data.Result;
 import com.epam.training.ticketservice.core.model.Pricing;
+import com.epam.training.ticketservice.core.model.PricingConfiguration;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
 import com.epam.training.ticketservice.core.model.dto.PricingDto;
+import com.epam.training.ticketservice.core.model.enums.PricingTarget;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
+import com.epam.training.ticketservice.core.pricing.PricingComponentAttachedEvent;
+import com.epam.training.ticketservice.core.pricing.PricingConfigurationCache;
+import com.epam.training.ticketservice.core.pricing.ScreeningPriceCache;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
 import com.epam.training.ticketservice.core.repository.PricingRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
@@ -18,10 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 
 class PricingServiceImplTest {
@@ -38,12 +49,22 @@ class PricingServiceImplTest {
     @Mock
     private ScreeningRepository screeningRepository;
 
+    @Spy
+    private ScreeningPriceCache priceCache = new ScreeningPriceCache(60_000);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PricingConfigurationCache pricingConfigurationCache;
+
     @InjectMocks
     private PricingServiceImpl pricingService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(pricingConfigurationCache.getBasePrice()).thenReturn(1500);
     }
 
     @Test
@@ -78,6 +99,56 @@ class PricingServiceImplTest {
         verify(pricingRepository, never()).save(any(Pricing.class));
     }
 
+    @Test
+    void testCreatePricingRule_SavesConditions() {
+        // Arrange
+        PricingDto rule = new PricingDto("Front", -300);
+        rule.setMinRow(1);
+        rule.setMaxRow(2);
+        when(pricingRepository.findByName("Front")).thenReturn(Optional.empty());
+
+        // Act
+        Result<Void> result = pricingService.createPricingRule(rule);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(pricingRepository).save(argThat(pricing -> pricing.getType() == PricingType.FIXED
+                && pricing.getMinRow() == 1 && pricing.getMaxRow() == 2));
+    }
+
+    @Test
+    void testCreatePricingRule_WhenRowRangeIsReversed() {
+        // Arrange
+        PricingDto rule = new PricingDto("Front", -300);
+        rule.setMinRow(5);
+        rule.setMaxRow(2);
+        when(pricingRepository.findByName("Front")).thenReturn(Optional.empty());
+
+        // Act
+        Result<Void> result = pricingService.createPricingRule(rule);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: The first row of a pricing rule must not be after its last row.", result.getMessage());
+        verify(pricingRepository, never()).save(any(Pricing.class));
+    }
+
+    @Test
+    void testCreatePricingRule_WhenPercentageWouldMakeSeatsFree() {
+        // Arrange
+        PricingDto rule = new PricingDto("Free", -100);
+        rule.setType(PricingType.PERCENTAGE);
+        when(pricingRepository.findByName("Free")).thenReturn(Optional.empty());
+
+        // Act
+        Result<Void> result = pricingService.createPricingRule(rule);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: A percentage pricing rule must be greater than -100.", result.getMessage());
+        verify(pricingRepository, never()).save(any(Pricing.class));
+    }
+
     @Test
     void testUpdateBasePrice() {
         // Act
@@ -85,6 +156,21 @@ class PricingServiceImplTest {
 
         // Assert
         assertTrue(result.isSuccess());
+        verify(pricingConfigurationCache, times(1)).updateBasePrice(2000);
+    }
+
+    @Test
+    void testUpdateBasePrice_WhenChangedConcurrently() {
+        // Arrange
+        doThrow(new ObjectOptimisticLockingFailureException(PricingConfiguration.class, PricingConfiguration.ID))
+                .when(pricingConfigurationCache).updateBasePrice(2000);
+
+        // Act
+        Result<Void> result = pricingService.updateBasePrice(2000);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Base price was changed concurrently. Try again.", result.getMessage());
     }
 
     @Test
@@ -96,7 +182,7 @@ class PricingServiceImplTest {
         Movie movie = new Movie(movieTitle, "Action", 120);
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.of(movie));
+        when(movieRepository.findWithPricingComponentsByTitle(movieTitle)).thenReturn(Optional.of(movie));
 
         // Act
         Result<Void> result = pricingService.attachPricingComponentToMovie(pricingComponentName, movieTitle);
@@ -133,7 +219,7 @@ class PricingServiceImplTest {
         Room room = new Room(roomName, 10, 10);
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(roomRepository.findByName(roomName)).thenReturn(Optional.of(room));
+        when(roomRepository.findWithPricingComponentsByName(roomName)).thenReturn(Optional.of(room));
 
         // Act
         Result<Void> result = pricingService.attachPricingComponentToRoom(pricingComponentName, roomName);
@@ -161,6 +247,7 @@ class PricingServiceImplTest {
 
         when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startDateTime))
                 .thenReturn(Optional.of(screening));
+        when(pricingRepository.findComponentsOfScreening(screening.getId())).thenReturn(List.of(pricing));
 
         // Act
         Result<Integer> result = pricingService.calculatePrice(movieTitle, roomName, startDateTime, seats);
@@ -171,6 +258,133 @@ class PricingServiceImplTest {
     }
 
 
+    @Test
+    void testCalculateSeatPrice_CachesPlanOfScreening() {
+        // Arrange
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setMovie(new Movie("Inception", "Action", 120));
+        screening.setRoom(new Room("Room 1", 10, 10));
+        when(pricingRepository.findComponentsOfScreening(1L)).thenReturn(List.of(new Pricing("Premium", 500)));
+
+        // Act
+        int firstPrice = pricingService.calculateSeatPrice(screening, 1);
+        int cachedPrice = pricingService.calculateSeatPrice(screening, 1);
+
+        // Assert
+        assertEquals(2000, firstPrice);
+        assertEquals(firstPrice, cachedPrice);
+        verify(priceCache, times(2)).getPlan(eq(screening), any());
+        verify(pricingRepository, times(1)).findComponentsOfScreening(1L);
+    }
+
+    @Test
+    void testCalculatePrice_WhenScreeningIsCached_DoesNotLoadScreening() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setMovie(new Movie("Inception", "Action", 120));
+        screening.setRoom(new Room("Room 1", 10, 10));
+        screening.setStartTime(startTime);
+        screening.setPricingComponents(new HashSet<>());
+        int seatPrice = pricingService.calculateSeatPrice(screening, 1);
+
+        // Act
+        Result<Integer> result = pricingService.calculatePrice("Inception", "Room 1", startTime, List.of("1,1", "1,2"));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(seatPrice * 2, result.getData());
+        verifyNoInteractions(screeningRepository);
+    }
+
+    @Test
+    void testCalculatePrice_AppliesRowTierPerSeat() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+        Pricing frontRows = new Pricing("Front", -300);
+        frontRows.setMaxRow(1);
+        Screening screening = new Screening();
+        screening.setId(1L);
+        screening.setMovie(new Movie("Inception", "Action", 120));
+        screening.setRoom(new Room("Room 1", 10, 10));
+        screening.setStartTime(startTime);
+        screening.setPricingComponents(new HashSet<>(List.of(frontRows)));
+        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime("Inception", "Room 1", startTime))
+                .thenReturn(Optional.of(screening));
+        when(pricingRepository.findComponentsOfScreening(1L)).thenReturn(List.of(frontRows));
+
+        // Act
+        Result<Integer> result = pricingService.calculatePrice("Inception", "Room 1", startTime, List.of("1,1", "2,1"));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1200 + 1500, result.getData());
+    }
+
+    @Test
+    void testQuotePrices_QuotesEveryScreeningOfTheRange() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2021, 3, 15, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        Pricing frontRows = new Pricing("Front", -300);
+        frontRows.setMaxRow(1);
+        Movie movie = new Movie("Inception", "Action", 120);
+        movie.setPricingComponents(new HashSet<>());
+        Room room = new Room("Room 1", 3, 10);
+        room.setPricingComponents(new HashSet<>(List.of(frontRows)));
+        Screening screening = new Screening(movie, room, from.plusHours(10));
+        screening.setId(1L);
+        screening.setPricingComponents(new HashSet<>());
+        when(screeningRepository.findWithMovieAndRoomByStartTimeRange(from, to)).thenReturn(List.of(screening));
+
+        // Act
+        Result<List<PriceQuoteDto>> result = pricingService.quotePrices(from, to);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getData().size());
+        PriceQuoteDto quote = result.getData().get(0);
+        assertEquals("Inception", quote.getMovieTitle());
+        assertEquals("Room 1", quote.getRoomName());
+        assertArrayEquals(new int[] {1200, 1500, 1500}, quote.getRowPrices());
+        verify(screeningRepository, times(1)).findWithMovieAndRoomByStartTimeRange(from, to);
+        verify(screeningRepository, times(1)).findWithPricingComponentsByIdIn(Set.of(1L));
+        verifyNoMoreInteractions(screeningRepository);
+    }
+
+    @Test
+    void testQuotePrices_WhenRangeIsEmpty() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2021, 3, 15, 0, 0);
+
+        // Act
+        Result<List<PriceQuoteDto>> result = pricingService.quotePrices(from, from);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: The end of the range must be after its start.", result.getMessage());
+        verifyNoInteractions(screeningRepository);
+    }
+
+    @Test
+    void testAttachPricingComponentToRoom_PublishesAttachedEvent() {
+        // Arrange
+        Pricing pricing = new Pricing("Surcharge", 200);
+        Room room = new Room("Room 1", 10, 10);
+        room.setId(3L);
+
+        when(pricingRepository.findByName("Surcharge")).thenReturn(Optional.of(pricing));
+        when(roomRepository.findWithPricingComponentsByName("Room 1")).thenReturn(Optional.of(room));
+
+        // Act
+        pricingService.attachPricingComponentToRoom("Surcharge", "Room 1");
+
+        // Assert
+        verify(eventPublisher).publishEvent(new PricingComponentAttachedEvent(PricingTarget.ROOM, 3L));
+    }
+
     @Test
     void testCalculatePrice_WhenScreeningDoesNotExist() {
         // Arrange
@@ -202,7 +416,8 @@ class PricingServiceImplTest {
         screening.setPricingComponents(new HashSet<>());
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
+        when(screeningRepository
+                .findWithPricingComponentsByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
                 .thenReturn(Optional.of(screening));
 
         // Act
@@ -244,7 +459,8 @@ class PricingServiceImplTest {
         PricingDto pricingDto = new PricingDto(pricingComponentName, 500);
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
+        when(screeningRepository
+                .findWithPricingComponentsByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
                 .thenReturn(Optional.empty());
 
         // Act
@@ -264,7 +480,7 @@ class PricingServiceImplTest {
         Pricing pricing = new Pricing(pricingComponentName, 500);
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.empty());
+        when(movieRepository.findWithPricingComponentsByTitle(movieTitle)).thenReturn(Optional.empty());
 
         // Act
         Result<Void> result = pricingService.attachPricingComponentToMovie(pricingComponentName, movieTitle);
@@ -300,7 +516,7 @@ class PricingServiceImplTest {
         Pricing pricing = new Pricing(pricingComponentName, 500);
 
         when(pricingRepository.findByName(pricingComponentName)).thenReturn(Optional.of(pricing));
-        when(roomRepository.findByName(roomName)).thenReturn(Optional.empty());
+        when(roomRepository.findWithPricingComponentsByName(roomName)).thenReturn(Optional.empty());
 
         // Act
         Result<Void> result = pricingService.attachPricingComponentToRoom(pricingComponentName, roomName);
@@ -4,10 +4,11 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.RoomMapper;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.repository.BookingRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -22,11 +23,14 @@ class RoomServiceImplTest {
     @Mock
     private RoomRepository roomRepository;
 
+    @Mock
+    private BookingRepository bookingRepository;
+
     @Mock
     private UserServiceImpl userService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private RoomMapper roomMapper;
 
     @InjectMocks
     private RoomServiceImpl roomService;
@@ -49,7 +53,7 @@ class RoomServiceImplTest {
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(roomRepository.findByName(name)).thenReturn(Optional.empty());
         when(roomRepository.save(any(Room.class))).thenReturn(room);
-        when(objectMapper.convertValue(room, RoomDto.class)).thenReturn(roomDto);
+        when(roomMapper.toDto(room)).thenReturn(roomDto);
 
         // Act
         Result<RoomDto> result = roomService.createRoom(name, rows, columns);
@@ -108,8 +112,8 @@ class RoomServiceImplTest {
         RoomDto roomDto2 = new RoomDto("Room 2", 15, 25, seats2, null);
 
         when(roomRepository.findAll()).thenReturn(List.of(room1, room2));
-        when(objectMapper.convertValue(room1, RoomDto.class)).thenReturn(roomDto1);
-        when(objectMapper.convertValue(room2, RoomDto.class)).thenReturn(roomDto2);
+        when(roomMapper.toDto(room1)).thenReturn(roomDto1);
+        when(roomMapper.toDto(room2)).thenReturn(roomDto2);
 
         // Act
         Result<List<RoomDto>> result = roomService.getRooms();
@@ -144,7 +148,7 @@ class RoomServiceImplTest {
 
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(roomRepository.findByName(name)).thenReturn(Optional.of(room));
-        when(objectMapper.convertValue(room, RoomDto.class)).thenReturn(updatedRoomDto);
+        when(roomMapper.toDto(room)).thenReturn(updatedRoomDto);
 
         // Act
         Result<RoomDto> result = roomService.updateRoom(name, rows, columns);
@@ -158,6 +162,44 @@ class RoomServiceImplTest {
         verify(roomRepository, times(1)).save(room);
     }
 
+    @Test
+    void testUpdateRoom_WhenRoomWithBookingsIsResized() {
+        // Arrange
+        String name = "Room 1";
+        Room room = new Room(name, 10, 10);
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(roomRepository.findByName(name)).thenReturn(Optional.of(room));
+        when(bookingRepository.existsByScreeningRoom(room)).thenReturn(true);
+
+        // Act
+        Result<RoomDto> result = roomService.updateRoom(name, 10, 12);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Room cannot be resized while it has bookings.", result.getMessage());
+        assertEquals(10, room.getColumns());
+        verify(roomRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdateRoom_WhenRoomWithBookingsKeepsItsSize() {
+        // Arrange
+        String name = "Room 1";
+        Room room = new Room(name, 10, 10);
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(roomRepository.findByName(name)).thenReturn(Optional.of(room));
+        when(bookingRepository.existsByScreeningRoom(room)).thenReturn(true);
+
+        // Act
+        Result<RoomDto> result = roomService.updateRoom(name, 10, 10);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(roomRepository, times(1)).save(room);
+    }
+
     @Test
     void testUpdateRoom_WhenRoomDoesNotExist() {
         // Arrange
@@ -186,7 +228,7 @@ class RoomServiceImplTest {
 
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(roomRepository.findByName(name)).thenReturn(Optional.of(room));
-        when(objectMapper.convertValue(room, RoomDto.class)).thenReturn(roomDto);
+        when(roomMapper.toDto(room)).thenReturn(roomDto);
 
         // Act
         Result<RoomDto> result = roomService.deleteRoom(name);
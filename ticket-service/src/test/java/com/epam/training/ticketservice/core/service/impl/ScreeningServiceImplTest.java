@@ -4,26 +4,44 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.ScreeningMapper;
 import com.epam.training.ticketservice.core.model.Movie;
 import com.epam.training.ticketservice.core.model.Room;
 import com.epam.training.ticketservice.core.model.Screening;
 import com.epam.training.ticketservice.core.model.dto.MovieDto;
 import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.model.dto.ScheduleGenerationDto;
 import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningImportDto;
+import com.epam.training.ticketservice.core.pricing.ScreeningDeletedEvent;
 import com.epam.training.ticketservice.core.repository.MovieRepository;
 import com.epam.training.ticketservice.core.repository.RoomRepository;
 import com.epam.training.ticketservice.core.repository.ScreeningRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.epam.training.ticketservice.core.schedule.RoomSchedule;
+import com.epam.training.ticketservice.core.schedule.RoomScheduleRegistry;
+import com.epam.training.ticketservice.core.schedule.ScheduleGenerator;
+import com.epam.training.ticketservice.core.schedule.ScheduledScreening;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 class ScreeningServiceImplTest {
 
@@ -37,17 +55,31 @@ class ScreeningServiceImplTest {
     private RoomRepository roomRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private ScreeningMapper screeningMapper;
 
     @Mock
     private UserServiceImpl userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RoomScheduleRegistry roomScheduleRegistry;
+
+    @Mock
+    private ScheduleGenerator scheduleGenerator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ScreeningServiceImpl screeningService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -66,9 +98,10 @@ class ScreeningServiceImplTest {
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.of(movie));
         when(roomRepository.findByName(roomName)).thenReturn(Optional.of(room));
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of());
-        when(screeningRepository.save(any(Screening.class))).thenReturn(screening);
-        when(objectMapper.convertValue(screening, ScreeningDto.class)).thenReturn(screeningDto);
+        RoomSchedule schedule = new RoomSchedule();
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(schedule);
+        when(screeningRepository.saveAndFlush(any(Screening.class))).thenReturn(screening);
+        when(screeningMapper.toDto(screening)).thenReturn(screeningDto);
 
         // Act
         Result<ScreeningDto> result = screeningService.createScreening(movieTitle, roomName, startTime);
@@ -76,7 +109,64 @@ class ScreeningServiceImplTest {
         // Assert
         assertTrue(result.isSuccess());
         assertEquals(movieTitle, result.getData().getMovie().getTitle());
-        verify(screeningRepository, times(1)).save(any(Screening.class));
+        verify(screeningRepository, times(1)).saveAndFlush(any(Screening.class));
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    void testCreateScreening_WhenAnotherNodeScheduledAnOverlappingScreening_ThenItIsRefused() {
+        // Arrange
+        String movieTitle = "Inception";
+        String roomName = "Room 1";
+        LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 14, 0);
+        LocalDateTime otherStartTime = startTime.minusMinutes(60);
+        Movie movie = new Movie(movieTitle, "Action", 120);
+        Room room = new Room(roomName, 10, 10);
+        room.setId(1L);
+        RoomSchedule schedule = new RoomSchedule();
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.of(movie));
+        when(movieRepository.findMaxLength()).thenReturn(Optional.of(120));
+        when(roomRepository.findByName(roomName)).thenReturn(Optional.of(room));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(schedule);
+        when(screeningRepository.findScheduleOfRoomBetween(room,
+                startTime.minusMinutes(130), startTime.plusMinutes(130))).thenReturn(List.of(new ScheduledScreening(otherStartTime, 120)));
+
+        // Act
+        Result<ScreeningDto> result = screeningService.createScreening(movieTitle, roomName, startTime);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("There is an overlapping screening", result.getMessage());
+        verify(roomRepository).lockById(1L);
+        verify(screeningRepository, never()).saveAndFlush(any(Screening.class));
+        assertEquals(List.of(new ScheduledScreening(otherStartTime, 120)),
+                schedule.getScreenings(otherStartTime, startTime.plusDays(1)));
+    }
+
+    @Test
+    void testCreateScreening_WhenSaveFails_ReleasesTheTimeSlot() {
+        // Arrange
+        String movieTitle = "Inception";
+        String roomName = "Room 1";
+        LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 14, 0);
+        Movie movie = new Movie(movieTitle, "Action", 120);
+        Room room = new Room(roomName, 10, 10);
+        RoomSchedule schedule = new RoomSchedule();
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.of(movie));
+        when(roomRepository.findByName(roomName)).thenReturn(Optional.of(room));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(schedule);
+        when(screeningRepository.saveAndFlush(any(Screening.class))).thenThrow(new IllegalStateException("Database down"));
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> screeningService.createScreening(movieTitle, roomName, startTime));
+
+        // Assert
+        assertEquals(0, schedule.size());
     }
 
     @Test
@@ -94,7 +184,7 @@ class ScreeningServiceImplTest {
         // Assert
         assertFalse(result.isSuccess());
         assertEquals("Error: Admin privileges are required.", result.getMessage());
-        verify(screeningRepository, never()).save(any(Screening.class));
+        verify(screeningRepository, never()).saveAndFlush(any(Screening.class));
     }
 
     @Test
@@ -113,7 +203,7 @@ class ScreeningServiceImplTest {
         // Assert
         assertFalse(result.isSuccess());
         assertEquals("Error: Movie does not exist.", result.getMessage());
-        verify(screeningRepository, never()).save(any(Screening.class));
+        verify(screeningRepository, never()).saveAndFlush(any(Screening.class));
     }
 
     @Test
@@ -134,7 +224,202 @@ class ScreeningServiceImplTest {
         // Assert
         assertFalse(result.isSuccess());
         assertEquals("Error: Room does not exist.", result.getMessage());
-        verify(screeningRepository, never()).save(any(Screening.class));
+        verify(screeningRepository, never()).saveAndFlush(any(Screening.class));
+    }
+
+    @Test
+    void testImportScreenings_ImportsValidLinesAndReportsTheOthers(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("schedule.csv");
+        Files.write(file, List.of(
+                "# movie title,room name,start time",
+                "Inception,Room 1,2023-12-05 10:00",
+                "Inception,Room 1,2023-12-05 11:00",
+                "Inception,Room 2,2023-12-05 10:00",
+                "Unknown,Room 1,2023-12-05 18:00",
+                "Inception,Unknown,2023-12-05 18:00",
+                "",
+                "Inception,Room 1,05/12/2023",
+                "Inception;Room 1",
+                "Inception,Room 1,2023-12-05 12:10"));
+        Movie movie = new Movie("Inception", "Action", 60);
+        Room room1 = new Room("Room 1", 10, 10);
+        Room room2 = new Room("Room 2", 10, 10);
+        RoomSchedule schedule1 = new RoomSchedule();
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitleIn(Set.of("Inception", "Unknown"))).thenReturn(List.of(movie));
+        when(roomRepository.findByNameIn(Set.of("Room 1", "Room 2", "Unknown"))).thenReturn(List.of(room1, room2));
+        when(roomScheduleRegistry.getSchedule(room1)).thenReturn(schedule1);
+        when(roomScheduleRegistry.getSchedule(room2)).thenReturn(new RoomSchedule());
+
+        // Act
+        Result<ScreeningImportDto> result = screeningService.importScreenings(file);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getData().getImportedCount());
+        assertEquals(List.of(
+                "Line 3: This would start in the break period after another screening in this room",
+                "Line 5: Error: Movie does not exist.",
+                "Line 6: Error: Room does not exist.",
+                "Line 8: Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.",
+                "Line 9: Error: Expected 'movie title,room name,yyyy-MM-dd HH:mm'."), result.getData().getErrors());
+        assertEquals(2, schedule1.size());
+        verify(screeningRepository, times(1)).saveAllAndFlush(argThat(screenings -> ((List<Screening>) screenings).size() == 3));
+    }
+
+    @Test
+    void testImportScreenings_WithQuotedFields_KeepsCommasInsideQuotes(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("schedule.csv");
+        Files.write(file, List.of(
+                "\"Crouching Tiger, Hidden Dragon\",\"Room \"\"A\"\"\",2023-12-05 10:00",
+                "Crouching Tiger, Hidden Dragon,Room 1,2023-12-05 14:00",
+                "\"Crouching Tiger, Hidden Dragon,Room 1,2023-12-05 18:00",
+                "Crouching \"Tiger\",Room 1,2023-12-05 18:00"));
+        Movie movie = new Movie("Crouching Tiger, Hidden Dragon", "Action", 120);
+        Room room = new Room("Room \"A\"", 10, 10);
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitleIn(Set.of("Crouching Tiger, Hidden Dragon"))).thenReturn(List.of(movie));
+        when(roomRepository.findByNameIn(Set.of("Room \"A\""))).thenReturn(List.of(room));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(new RoomSchedule());
+
+        // Act
+        Result<ScreeningImportDto> result = screeningService.importScreenings(file);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getData().getImportedCount());
+        assertEquals(List.of(
+                "Line 2: Error: Expected 'movie title,room name,yyyy-MM-dd HH:mm'.",
+                "Line 3: Error: Quoted fields must be enclosed in double quotes as a whole.",
+                "Line 4: Error: Quoted fields must be enclosed in double quotes as a whole."),
+                result.getData().getErrors());
+    }
+
+    @Test
+    void testImportScreenings_ImportsLongFilesInBatches(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("schedule.csv");
+        LocalDateTime firstStart = LocalDateTime.of(2023, 12, 5, 10, 0);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i <= ScreeningServiceImpl.IMPORT_BATCH_SIZE; i++) {
+            lines.add("Inception,Room 1," + firstStart.plusHours(2L * i).toString().replace('T', ' '));
+        }
+        Files.write(file, lines);
+        Movie movie = new Movie("Inception", "Action", 60);
+        Room room = new Room("Room 1", 10, 10);
+        RoomSchedule schedule = new RoomSchedule();
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitleIn(Set.of("Inception"))).thenReturn(List.of(movie));
+        when(roomRepository.findByNameIn(Set.of("Room 1"))).thenReturn(List.of(room));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(schedule);
+
+        // Act
+        Result<ScreeningImportDto> result = screeningService.importScreenings(file);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(ScreeningServiceImpl.IMPORT_BATCH_SIZE + 1, result.getData().getImportedCount());
+        assertEquals(List.of(), result.getData().getErrors());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(screeningRepository).saveAllAndFlush(
+                argThat(screenings -> ((List<Screening>) screenings).size() == ScreeningServiceImpl.IMPORT_BATCH_SIZE));
+        verify(screeningRepository).saveAllAndFlush(argThat(screenings -> ((List<Screening>) screenings).size() == 1));
+        assertEquals(ScreeningServiceImpl.IMPORT_BATCH_SIZE + 1, schedule.size());
+    }
+
+    @Test
+    void testImportScreenings_WhenFileCannotBeRead(@TempDir Path directory) {
+        // Arrange
+        Path file = directory.resolve("missing.csv");
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+
+        // Act
+        Result<ScreeningImportDto> result = screeningService.importScreenings(file);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Cannot read file '" + file + "'.", result.getMessage());
+        verifyNoInteractions(screeningRepository);
+    }
+
+    @Test
+    void testImportScreenings_WhenAdminPrivilegesAreInvalid(@TempDir Path directory) {
+        // Arrange
+        when(userService.checkAdminPrivileges()).thenReturn(Result.failure("Error: Admin privileges are required."));
+
+        // Act
+        Result<ScreeningImportDto> result = screeningService.importScreenings(directory.resolve("schedule.csv"));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Admin privileges are required.", result.getMessage());
+        verifyNoInteractions(screeningRepository);
+    }
+
+    @Test
+    void testGenerateSchedule_CreatesGeneratedScreeningsWhichStillFit() {
+        // Arrange
+        LocalDate day = LocalDate.of(2023, 12, 5);
+        Movie movie = new Movie("Inception", "Action", 120);
+        Room room = new Room("Room 1", 10, 10);
+        RoomSchedule schedule = new RoomSchedule();
+        schedule.add(day.atTime(14, 0), 120);
+        Screening fitting = new Screening(movie, room, day.atTime(10, 0));
+        Screening conflicting = new Screening(movie, room, day.atTime(13, 0));
+
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitleIn(Set.of("Inception"))).thenReturn(List.of(movie));
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(schedule);
+        when(scheduleGenerator.generate(Map.of(room, schedule), Map.of(movie, 3), day, day))
+                .thenReturn(List.of(fitting, conflicting));
+
+        // Act
+        Result<ScheduleGenerationDto> result = screeningService.generateSchedule(day, day, Map.of("Inception", 3));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getData().getGeneratedCount());
+        assertEquals(Map.of("Inception", 2), result.getData().getUnscheduledCounts());
+        assertEquals(2, schedule.size());
+        verify(screeningRepository, times(1)).saveAllAndFlush(List.of(fitting));
+    }
+
+    @Test
+    void testGenerateSchedule_WhenLastDayIsBeforeFirstDay() {
+        // Arrange
+        LocalDate day = LocalDate.of(2023, 12, 5);
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+
+        // Act
+        Result<ScheduleGenerationDto> result =
+                screeningService.generateSchedule(day, day.minusDays(1), Map.of("Inception", 3));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: The last day must not be before the first day.", result.getMessage());
+        verifyNoInteractions(scheduleGenerator);
+    }
+
+    @Test
+    void testGenerateSchedule_WhenMovieDoesNotExist() {
+        // Arrange
+        LocalDate day = LocalDate.of(2023, 12, 5);
+        when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
+        when(movieRepository.findByTitleIn(Set.of("Unknown"))).thenReturn(List.of());
+
+        // Act
+        Result<ScheduleGenerationDto> result = screeningService.generateSchedule(day, day, Map.of("Unknown", 3));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: Movie does not exist.", result.getMessage());
+        verifyNoInteractions(scheduleGenerator);
     }
 
     @Test
@@ -148,7 +433,7 @@ class ScreeningServiceImplTest {
         ScreeningDto screeningDto = new ScreeningDto(movieDto, roomDto, LocalDateTime.now(), null);
 
         when(screeningRepository.findAll()).thenReturn(List.of(screening));
-        when(objectMapper.convertValue(screening, ScreeningDto.class)).thenReturn(screeningDto);
+        when(screeningMapper.toDto(screening)).thenReturn(screeningDto);
 
         // Act
         Result<List<ScreeningDto>> result = screeningService.getScreenings();
@@ -182,12 +467,13 @@ class ScreeningServiceImplTest {
         MovieDto movieDto = new MovieDto(movieTitle, "Action", 120, null);
         RoomDto roomDto = new RoomDto(roomName, 10, 10, 100, null);
         Screening screening = new Screening(movie, room, startTime);
+        screening.setId(5L);
         ScreeningDto screeningDto = new ScreeningDto(movieDto, roomDto, startTime, null);
 
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(screeningRepository.findByMovieTitleAndRoomNameAndStartTime(movieTitle, roomName, startTime))
                 .thenReturn(Optional.of(screening));
-        when(objectMapper.convertValue(screening, ScreeningDto.class)).thenReturn(screeningDto);
+        when(screeningMapper.toDto(screening)).thenReturn(screeningDto);
 
         // Act
         Result<ScreeningDto> result = screeningService.deleteScreening(movieTitle, roomName, startTime);
@@ -195,6 +481,8 @@ class ScreeningServiceImplTest {
         // Assert
         assertTrue(result.isSuccess());
         verify(screeningRepository, times(1)).delete(screening);
+        verify(roomScheduleRegistry, times(1)).remove(screening);
+        verify(eventPublisher, times(1)).publishEvent(new ScreeningDeletedEvent(5L));
     }
 
     @Test
@@ -218,31 +506,28 @@ class ScreeningServiceImplTest {
     }
 
     @Test
-    void testCheckScheduleConflicts_WhenNoConflictsExist() {
+    void testReserveTimeSlot_WhenNoConflictsExist() {
         // Arrange
-        Room room = new Room("Room 1", 10, 10);
         LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 14, 0);
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of());
 
         // Act
-        Result<Void> result = invokeCheckScheduleConflicts(room, startTime);
+        Result<Void> result = invokeReserveTimeSlot(List.of(), startTime);
 
         // Assert
         assertTrue(result.isSuccess());
     }
 
     @Test
-    void testCheckScheduleConflicts_WhenThereIsAnOverlappingScreening() {
+    void testReserveTimeSlot_WhenThereIsAnOverlappingScreening() {
         // Arrange
         Room room = new Room("Room 1", 10, 10);
         LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 14, 30);
         Movie movie = new Movie("Movie 1", "Action", 120);
         Screening existingScreening = new Screening(movie, room, LocalDateTime.of(2023, 12, 5, 13, 30));
 
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(existingScreening));
 
         // Act
-        Result<Void> result = invokeCheckScheduleConflicts(room, startTime);
+        Result<Void> result = invokeReserveTimeSlot(List.of(existingScreening), startTime);
 
         // Assert
         assertFalse(result.isSuccess());
@@ -250,7 +535,7 @@ class ScreeningServiceImplTest {
     }
 
     @Test
-    void testCheckScheduleConflicts_WhenStartTimeIsInBreakPeriod() {
+    void testReserveTimeSlot_WhenStartTimeIsInBreakPeriod() {
         // Arrange
         Room room = new Room("Room 1", 10, 10);
         LocalDateTime existingStartTime = LocalDateTime.of(2023, 12, 5, 13, 30);
@@ -261,10 +546,9 @@ class ScreeningServiceImplTest {
         Movie movie = new Movie("Movie 1", "Action", 120);
         Screening existingScreening = new Screening(movie, room, existingStartTime);
 
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(existingScreening));
 
         // Act
-        Result<Void> result = invokeCheckScheduleConflicts(room, startTime);
+        Result<Void> result = invokeReserveTimeSlot(List.of(existingScreening), startTime);
 
         // Assert
         assertFalse(result.isSuccess());
@@ -272,7 +556,7 @@ class ScreeningServiceImplTest {
     }
 
     @Test
-    void testCheckScheduleConflicts_WhenMultipleScreeningsExistButNoConflicts() {
+    void testReserveTimeSlot_WhenMultipleScreeningsExistButNoConflicts() {
         // Arrange
         Room room = new Room("Room 1", 10, 10);
         LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 17, 0);
@@ -281,15 +565,65 @@ class ScreeningServiceImplTest {
         Screening screening1 = new Screening(movie1, room, LocalDateTime.of(2023, 12, 5, 10, 0));
         Screening screening2 = new Screening(movie2, room, LocalDateTime.of(2023, 12, 5, 13, 0));
 
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(screening1, screening2));
 
         // Act
-        Result<Void> result = invokeCheckScheduleConflicts(room, startTime);
+        Result<Void> result = invokeReserveTimeSlot(List.of(screening1, screening2), startTime);
 
         // Assert
         assertTrue(result.isSuccess());
     }
 
+    @Test
+    void testReserveTimeSlot_WhenLongMovieWouldRunIntoALaterScreening() {
+        // Arrange
+        Room room = new Room("Room 1", 10, 10);
+        Movie movie = new Movie("Movie 1", "Action", 120);
+        Screening existingScreening = new Screening(movie, room, LocalDateTime.of(2023, 12, 5, 14, 0));
+        RoomSchedule schedule = scheduleOf(List.of(existingScreening));
+        Movie longMovie = new Movie("Long movie", "Drama", 450);
+
+        // Act
+        Result<Void> result = invokeReserveTimeSlot(schedule, longMovie, LocalDateTime.of(2023, 12, 5, 10, 0));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("There is an overlapping screening", result.getMessage());
+        assertEquals(1, schedule.size());
+    }
+
+    @Test
+    void testReserveTimeSlot_WhenLaterScreeningWouldStartInTheBreak() {
+        // Arrange
+        Room room = new Room("Room 1", 10, 10);
+        Movie movie = new Movie("Movie 1", "Action", 120);
+        Screening existingScreening = new Screening(movie, room, LocalDateTime.of(2023, 12, 5, 14, 0));
+
+        // Act
+        Result<Void> result = invokeReserveTimeSlot(scheduleOf(List.of(existingScreening)),
+                new Movie("New movie", "Drama", 90), LocalDateTime.of(2023, 12, 5, 12, 25));
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("This would start in the break period after another screening in this room", result.getMessage());
+    }
+
+    @Test
+    void testReserveTimeSlot_WhenTheSameSlotIsRequestedTwice() {
+        // Arrange
+        RoomSchedule schedule = new RoomSchedule();
+        Movie movie = new Movie("Movie 1", "Action", 90);
+        LocalDateTime startTime = LocalDateTime.of(2023, 12, 5, 14, 0);
+
+        // Act
+        Result<Void> first = invokeReserveTimeSlot(schedule, movie, startTime);
+        Result<Void> second = invokeReserveTimeSlot(schedule, movie, startTime);
+
+        // Assert
+        assertTrue(first.isSuccess());
+        assertFalse(second.isSuccess());
+        assertEquals("There is an overlapping screening", second.getMessage());
+    }
+
     @Test
     void testCreateScreening_WhenScheduleCheckFails() {
         // Arrange
@@ -303,7 +637,7 @@ class ScreeningServiceImplTest {
         when(userService.checkAdminPrivileges()).thenReturn(Result.success(null));
         when(movieRepository.findByTitle(movieTitle)).thenReturn(Optional.of(movie));
         when(roomRepository.findByName(roomName)).thenReturn(Optional.of(room));
-        when(screeningRepository.findByRoom(room)).thenReturn(List.of(conflictingScreening));
+        when(roomScheduleRegistry.getSchedule(room)).thenReturn(scheduleOf(List.of(conflictingScreening)));
 
         // Act
         Result<ScreeningDto> result = screeningService.createScreening(movieTitle, roomName, startTime);
@@ -311,7 +645,7 @@ class ScreeningServiceImplTest {
         // Assert
         assertFalse(result.isSuccess());
         assertEquals("There is an overlapping screening", result.getMessage());
-        verify(screeningRepository, never()).save(any(Screening.class));
+        verify(screeningRepository, never()).saveAndFlush(any(Screening.class));
     }
 
     @Test
@@ -332,12 +666,23 @@ class ScreeningServiceImplTest {
         verify(screeningRepository, never()).delete(any(Screening.class));
     }
 
-    private Result<Void> invokeCheckScheduleConflicts(Room room, LocalDateTime startTime) {
+    private RoomSchedule scheduleOf(List<Screening> screenings) {
+        RoomSchedule schedule = new RoomSchedule();
+        screenings.forEach(screening -> schedule.add(screening.getStartTime(), screening.getMovie().getLength()));
+        return schedule;
+    }
+
+    private Result<Void> invokeReserveTimeSlot(List<Screening> existingScreenings, LocalDateTime startTime) {
+        return invokeReserveTimeSlot(scheduleOf(existingScreenings), new Movie("New movie", "Drama", 90), startTime);
+    }
+
+    private Result<Void> invokeReserveTimeSlot(RoomSchedule schedule, Movie movie, LocalDateTime startTime) {
         try {
             // Access private method via reflection
-            Method method = ScreeningServiceImpl.class.getDeclaredMethod("checkScheduleConflicts", Room.class, LocalDateTime.class);
+            Method method = ScreeningServiceImpl.class.getDeclaredMethod("reserveTimeSlot",
+                    RoomSchedule.class, Movie.class, LocalDateTime.class);
             method.setAccessible(true);
-            return (Result<Void>) method.invoke(screeningService, room, startTime);
+            return (Result<Void>) method.invoke(screeningService, schedule, movie, startTime);
         } catch (Exception e) {
             throw new RuntimeException("Reflection error: " + e.getMessage(), e);
         }
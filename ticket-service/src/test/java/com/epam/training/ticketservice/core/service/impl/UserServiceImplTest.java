@@ -1,19 +1,24 @@
 package com.epam.training.ticketservice.core.service.impl;
 
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.mapper.UserMapper;
 import com.epam.training.ticketservice.core.model.User;
 import com.epam.training.ticketservice.core.model.dto.*;
 import com.epam.training.ticketservice.core.model.enums.Role;
 import com.epam.training.ticketservice.core.repository.UserRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.epam.training.ticketservice.core.session.SessionContext;
+import com.epam.training.ticketservice.core.session.SessionStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,11 +29,20 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private UserMapper userMapper;
 
     @Mock
     private BookingServiceImpl bookingService;
 
+    @Spy
+    private SessionStore sessionStore = new SessionStore(30);
+
+    @Spy
+    private SessionContext sessionContext = new SessionContext();
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -36,6 +50,8 @@ class UserServiceImplTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         userService.setBookingService(bookingService);
+        when(passwordEncoder.matches(anyString(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals(invocation.getArgument(1)));
     }
 
     @Test
@@ -43,26 +59,26 @@ class UserServiceImplTest {
         User mockUser = new User("testUser", "password", Role.USER);
         UserDto mockUserDto = new UserDto("testUser", "password", "USER");
 
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(mockUser));
-        when(objectMapper.convertValue(mockUser, UserDto.class)).thenReturn(mockUserDto);
+        when(userMapper.toDto(mockUser)).thenReturn(mockUserDto);
 
         Result<UserDto> result = userService.signIn("testUser", "password");
 
         assertTrue(result.isSuccess());
         assertEquals("testUser", result.getData().getUsername());
-        verify(userRepository).findByUsernameAndPassword("testUser", "password");
+        verify(userRepository).findByUsername("testUser");
     }
 
     @Test
     void testSignInFailure() {
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.empty());
 
         Result<UserDto> result = userService.signIn("testUser", "password");
 
         assertFalse(result.isSuccess());
-        verify(userRepository).findByUsernameAndPassword("testUser", "password");
+        verify(userRepository).findByUsername("testUser");
     }
 
     @Test
@@ -71,13 +87,14 @@ class UserServiceImplTest {
         User mockUser = new User("newUser", "password", Role.USER);
 
         when(userRepository.existsByUsername("newUser")).thenReturn(false);
-        when(objectMapper.convertValue(mockUser, UserDto.class)).thenReturn(mockUserDto);
+        when(passwordEncoder.encode("password")).thenReturn("hashed password");
+        when(userMapper.toDto(mockUser)).thenReturn(mockUserDto);
 
         Result<UserDto> result = userService.signUp("newUser", "password", Role.USER);
 
         assertTrue(result.isSuccess());
         verify(userRepository).existsByUsername("newUser");
-        verify(userRepository).save(mockUser);
+        verify(userRepository).save(new User("newUser", "hashed password", Role.USER));
     }
 
     @Test
@@ -94,9 +111,9 @@ class UserServiceImplTest {
     @Test
     void testSignOut() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
 
@@ -119,9 +136,9 @@ class UserServiceImplTest {
     @Test
     void testDescribeAsAdmin() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("admin", "password"))
+        when(userRepository.findByUsername("admin"))
                 .thenReturn(Optional.of(new User("admin", "password", Role.ADMIN)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("admin", "password", "ADMIN"));
         userService.signIn("admin", "password", true);
 
@@ -135,9 +152,9 @@ class UserServiceImplTest {
     @Test
     void testDescribeUserAccountWithoutBooking() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
         when(bookingService.getBookingsByUser("testUser"))
@@ -154,9 +171,9 @@ class UserServiceImplTest {
     void testDescribeUserAccountWithBooking() {
         // Arrange
         var mockuserDto = new UserDto("testUser", "password", "USER");
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
 
@@ -181,9 +198,9 @@ class UserServiceImplTest {
     @Test
     void testCheckAdminPrivilegesWithAdmin() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("admin", "password"))
+        when(userRepository.findByUsername("admin"))
                 .thenReturn(Optional.of(new User("admin", "password", Role.ADMIN)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("admin", "password", "ADMIN"));
         userService.signIn("admin", "password", true);
 
@@ -197,9 +214,9 @@ class UserServiceImplTest {
     @Test
     void testCheckAdminPrivilegesWithoutAdmin() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
 
@@ -214,9 +231,9 @@ class UserServiceImplTest {
     @Test
     void testGetAuthenticatedUserSuccess() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
 
@@ -231,9 +248,9 @@ class UserServiceImplTest {
     @Test
     void testGetAuthenticatedUserFailure() {
         // Arrange
-        when(userRepository.findByUsernameAndPassword("testUser", "password"))
+        when(userRepository.findByUsername("testUser"))
                 .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
-        when(objectMapper.convertValue(any(User.class), eq(UserDto.class)))
+        when(userMapper.toDto(any(User.class)))
                 .thenReturn(new UserDto("testUser", "password", "USER"));
         userService.signIn("testUser", "password");
 
@@ -250,7 +267,7 @@ class UserServiceImplTest {
         // Arrange
         User adminUser = new User("adminUser", "password", Role.ADMIN);
 
-        when(userRepository.findByUsernameAndPassword("adminUser", "password"))
+        when(userRepository.findByUsername("adminUser"))
                 .thenReturn(Optional.of(adminUser));
 
         // Act
@@ -258,7 +275,127 @@ class UserServiceImplTest {
 
         // Assert
         assertFalse(result.isSuccess());
-        verify(userRepository).findByUsernameAndPassword("adminUser", "password");
-        verifyNoInteractions(objectMapper);
+        verify(userRepository).findByUsername("adminUser");
+        verifyNoInteractions(userMapper);
+    }
+
+    @Test
+    void testSignOut_ClosesTheSession() {
+        // Arrange
+        when(userRepository.findByUsername("testUser"))
+                .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
+        when(userMapper.toDto(any(User.class)))
+                .thenReturn(new UserDto("testUser", "password", "USER"));
+        userService.signIn("testUser", "password");
+
+        // Act
+        userService.signOut();
+
+        // Assert
+        assertEquals(0, sessionStore.countSessions());
+        assertTrue(sessionContext.getToken().isEmpty());
+    }
+
+    @Test
+    void testSignIn_ReplacesThePreviousSessionOfTheCaller() {
+        // Arrange
+        when(userRepository.findByUsername("testUser"))
+                .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
+        when(userMapper.toDto(any(User.class)))
+                .thenReturn(new UserDto("testUser", "password", "USER"));
+
+        // Act
+        userService.signIn("testUser", "password");
+        userService.signIn("testUser", "password");
+
+        // Assert
+        assertEquals(1, sessionStore.countSessions());
+    }
+
+    @Test
+    void testCallersOnDifferentThreadsHaveSeparateSessions() {
+        // Arrange
+        when(userRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(new User("admin", "password", Role.ADMIN)));
+        when(userRepository.findByUsername("testUser"))
+                .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
+        when(userMapper.toDto(new User("admin", "password", Role.ADMIN)))
+                .thenReturn(new UserDto("admin", "password", "ADMIN"));
+        when(userMapper.toDto(new User("testUser", "password", Role.USER)))
+                .thenReturn(new UserDto("testUser", "password", "USER"));
+        userService.signIn("admin", "password", true);
+
+        // Act
+        Result<Void> customerCheck = CompletableFuture.supplyAsync(() -> {
+            userService.signIn("testUser", "password");
+            return userService.checkAdminPrivileges();
+        }).join();
+        Result<Void> adminCheck = userService.checkAdminPrivileges();
+
+        // Assert
+        assertFalse(customerCheck.isSuccess());
+        assertTrue(adminCheck.isSuccess());
+        assertEquals(2, sessionStore.countSessions());
+    }
+
+    @Test
+    void testGetAuthenticatedUser_WhenNotSignedIn() {
+        // Act
+        Result<UserDto> result = userService.getAuthenticatedUser("testUser");
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Error: User is not authenticated.", result.getMessage());
+    }
+
+    @Test
+    void testSignIn_WithWrongPassword() {
+        // Arrange
+        when(userRepository.findByUsername("testUser"))
+                .thenReturn(Optional.of(new User("testUser", "password", Role.USER)));
+
+        // Act
+        Result<UserDto> result = userService.signIn("testUser", "wrong");
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Login failed due to incorrect credentials", result.getMessage());
+        assertEquals(0, sessionStore.countSessions());
+    }
+
+    @Test
+    void testSignIn_UpgradesHashOfALowerCost() {
+        // Arrange
+        User user = new User("testUser", "password", Role.USER);
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(user));
+        when(passwordEncoder.upgradeEncoding("password")).thenReturn(true);
+        when(passwordEncoder.encode("password")).thenReturn("stronger hash");
+        when(userMapper.toDto(any(User.class)))
+                .thenReturn(new UserDto("testUser", "stronger hash", "USER"));
+
+        // Act
+        Result<UserDto> result = userService.signIn("testUser", "password");
+
+        // Assert
+        assertTrue(result.isSuccess());
+        verify(userRepository).save(new User("testUser", "stronger hash", Role.USER));
+    }
+
+    @Test
+    void testAuthenticatedCalls_DoNotVerifyThePasswordAgain() {
+        // Arrange
+        when(userRepository.findByUsername("admin"))
+                .thenReturn(Optional.of(new User("admin", "password", Role.ADMIN)));
+        when(userMapper.toDto(any(User.class)))
+                .thenReturn(new UserDto("admin", "password", "ADMIN"));
+        userService.signIn("admin", "password", true);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(userService.checkAdminPrivileges().isSuccess());
+        }
+
+        // Assert
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
     }
-}
\ No newline at end of file
+}
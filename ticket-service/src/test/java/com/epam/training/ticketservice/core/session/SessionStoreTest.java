@@ -0,0 +1,98 @@
+package com.epam.training.ticketservice.core.session;
+
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStoreTest {
+
+    private static final long IDLE_TIMEOUT = 1_000;
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    private final SessionStore sessionStore = new SessionStore(IDLE_TIMEOUT, now::get);
+
+    private final UserDto user = new UserDto("sanyi", "asdQWE123", "USER");
+
+    @Test
+    void testCreate_IssuesDistinctTokens() {
+        // Act
+        String first = sessionStore.create(user);
+        String second = sessionStore.create(user);
+
+        // Assert
+        assertNotEquals(first, second);
+        assertEquals(Optional.of(user), sessionStore.find(first));
+        assertEquals(2, sessionStore.countSessions());
+    }
+
+    @Test
+    void testFind_WhenSessionDoesNotExist() {
+        // Act & Assert
+        assertTrue(sessionStore.find("unknown").isEmpty());
+    }
+
+    @Test
+    void testFind_KeepsUsedSessionsAlive() {
+        // Arrange
+        String token = sessionStore.create(user);
+
+        // Act
+        now.set(900);
+        Optional<UserDto> first = sessionStore.find(token);
+        now.set(1_800);
+        Optional<UserDto> second = sessionStore.find(token);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+    }
+
+    @Test
+    void testFind_WhenSessionIsIdleForTooLong() {
+        // Arrange
+        String token = sessionStore.create(user);
+
+        // Act
+        now.set(IDLE_TIMEOUT + 1);
+        Optional<UserDto> found = sessionStore.find(token);
+
+        // Assert
+        assertTrue(found.isEmpty());
+        assertEquals(0, sessionStore.countSessions());
+    }
+
+    @Test
+    void testEvictIdleSessions_DropsOnlyIdleSessions() {
+        // Arrange
+        String idle = sessionStore.create(user);
+        now.set(600);
+        String active = sessionStore.create(user);
+
+        // Act
+        now.set(IDLE_TIMEOUT + 1);
+        int evicted = sessionStore.evictIdleSessions();
+
+        // Assert
+        assertEquals(1, evicted);
+        assertTrue(sessionStore.find(idle).isEmpty());
+        assertTrue(sessionStore.find(active).isPresent());
+    }
+
+    @Test
+    void testRemove_ClosesTheSession() {
+        // Arrange
+        String token = sessionStore.create(user);
+
+        // Act
+        sessionStore.remove(token);
+
+        // Assert
+        assertTrue(sessionStore.find(token).isEmpty());
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.epam.training.ticketservice.ui.command;
+
+import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.dto.BookingDto;
+import com.epam.training.ticketservice.core.model.dto.MovieDto;
+import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.SeatAvailabilityDto;
+import com.epam.training.ticketservice.core.model.dto.UserDto;
+import com.epam.training.ticketservice.core.service.impl.BookingServiceImpl;
+import com.epam.training.ticketservice.core.service.impl.UserServiceImpl;
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+class BookingCommandTest {
+
+    @Mock
+    private BookingServiceImpl bookingService;
+
+    @Mock
+    private UserServiceImpl userService;
+
+    @Mock
+    private Terminal terminal;
+
+    @InjectMocks
+    private BookingCommand bookingCommand;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testShowSeats_RendersRoomGrid() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+        long[] occupancy = {(1L << 1) | (1L << 19) | (1L << 20)};
+
+        when(bookingService.getSeatAvailability("Movie", "Room", startTime))
+                .thenReturn(Result.success(new SeatAvailabilityDto(10, 2, 17, occupancy)));
+
+        // Act
+        String result = bookingCommand.showSeats("Movie", "Room", "2021-03-15 10:45");
+
+        // Assert
+        assertEquals("Free seats: 17 of 20 ('.' is free, 'X' is taken)\n"
+                + " 1 .X\n 2 ..\n 3 ..\n 4 ..\n 5 ..\n 6 ..\n 7 ..\n 8 ..\n 9 ..\n10 .X", result);
+    }
+
+    @Test
+    void testShowSeats_WhenScreeningDoesNotExist() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+
+        when(bookingService.getSeatAvailability("Movie", "Room", startTime))
+                .thenReturn(Result.failure("Error: Screening does not exist."));
+
+        // Act
+        String result = bookingCommand.showSeats("Movie", "Room", "2021-03-15 10:45");
+
+        // Assert
+        assertEquals("Error: Screening does not exist.", result);
+    }
+
+    @Test
+    void testShowSeats_WhenDateIsInvalid() {
+        // Act
+        String result = bookingCommand.showSeats("Movie", "Room", "tomorrow");
+
+        // Assert
+        assertEquals("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.", result);
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void testListBookings_WritesEachBookingToTheTerminal() {
+        // Arrange
+        StringWriter output = new StringWriter();
+        ScreeningDto screening = new ScreeningDto(new MovieDto("Movie", "drama", 120, null),
+                new RoomDto("Room", 10, 10, 100, null), LocalDateTime.of(2021, 3, 15, 10, 45), null);
+
+        when(terminal.writer()).thenReturn(new PrintWriter(output));
+        when(userService.getLoggedInUser()).thenReturn(new UserDto("user", null, "USER"));
+        when(bookingService.streamBookingsByUser("user", 50)).thenReturn(Result.success(Stream.of(
+                new BookingDto(null, screening, List.of("5,5", "5,6"), 3000, null),
+                new BookingDto(null, screening, List.of("1,1"), 1500, null))));
+
+        // Act
+        String result = bookingCommand.listBookings(50);
+
+        // Assert
+        assertNull(result);
+        assertEquals(String.format("Seats (5,5), (5,6) on Movie in room Room starting at 2021-03-15 10:45 for 3000 HUF%n"
+                + "Seats (1,1) on Movie in room Room starting at 2021-03-15 10:45 for 1500 HUF%n"), output.toString());
+    }
+
+    @Test
+    void testListBookings_WhenPageSizeIsInvalid_ThenErrorIsReturned() {
+        // Arrange
+        when(userService.getLoggedInUser()).thenReturn(new UserDto("user", null, "USER"));
+        when(bookingService.streamBookingsByUser("user", 0))
+                .thenReturn(Result.failure("Error: Page size must be positive."));
+
+        // Act
+        String result = bookingCommand.listBookings(0);
+
+        // Assert
+        assertEquals("Error: Page size must be positive.", result);
+        verifyNoInteractions(terminal);
+    }
+
+}
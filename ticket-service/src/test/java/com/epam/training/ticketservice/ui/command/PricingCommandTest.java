@@ -2,15 +2,22 @@ package com.epam.training.ticketservice.ui.command;
 
 import com.epam.training.ticketservice.core.service.impl.PricingServiceImpl;
 import com.epam.training.ticketservice.core.data.Result;
+import com.epam.training.ticketservice.core.model.dto.PriceQuoteDto;
+import com.epam.training.ticketservice.core.model.dto.PricingDto;
+import com.epam.training.ticketservice.core.model.enums.PricingType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -60,6 +67,47 @@ class PricingCommandTest {
         verify(pricingService).createPricingComponent(componentName, price);
     }
 
+    @Test
+    void testCreatePriceRule_Success() {
+        // Arrange
+        when(pricingService.createPricingRule(any())).thenReturn(Result.success(null));
+
+        // Act
+        String result = pricingCommand.createPriceRule("Night", 20, "percentage", "22:00", "02:00", "friday", 1, 5);
+
+        // Assert
+        assertEquals("Price rule created", result);
+        ArgumentCaptor<PricingDto> captor = ArgumentCaptor.forClass(PricingDto.class);
+        verify(pricingService).createPricingRule(captor.capture());
+        PricingDto rule = captor.getValue();
+        assertEquals(PricingType.PERCENTAGE, rule.getType());
+        assertEquals(LocalTime.of(22, 0), rule.getFromTime());
+        assertEquals(LocalTime.of(2, 0), rule.getToTime());
+        assertEquals(DayOfWeek.FRIDAY, rule.getDayOfWeek());
+        assertEquals(1, rule.getMinRow());
+        assertEquals(5, rule.getMaxRow());
+    }
+
+    @Test
+    void testCreatePriceRule_Failure_InvalidType() {
+        // Act
+        String result = pricingCommand.createPriceRule("Night", 20, "bonus", null, null, null, null, null);
+
+        // Assert
+        assertEquals("Error: Invalid pricing type. Use 'FIXED' or 'PERCENTAGE'.", result);
+        verify(pricingService, never()).createPricingRule(any());
+    }
+
+    @Test
+    void testCreatePriceRule_Failure_InvalidTime() {
+        // Act
+        String result = pricingCommand.createPriceRule("Night", 20, "FIXED", "10pm", null, null, null, null);
+
+        // Assert
+        assertEquals("Error: Invalid time format. Use 'HH:mm'.", result);
+        verify(pricingService, never()).createPricingRule(any());
+    }
+
     @Test
     void testAttachPriceComponentToMovie_Success() {
         // Arrange
@@ -192,6 +240,59 @@ class PricingCommandTest {
         verify(pricingService).calculatePrice(movieTitle, roomName, parsedStartTime, Collections.singletonList(seat));
     }
 
+    @Test
+    void testShowPriceFor_PricesEverySeatOfTheList() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2021, 3, 15, 10, 45);
+        when(pricingService.calculatePrice("Inception", "Room 1", startTime, List.of("1,1", "5,5")))
+                .thenReturn(Result.success(3000));
+
+        // Act
+        String result = pricingCommand.showPriceFor("Inception", "Room 1", "2021-03-15 10:45", "1,1 5,5");
+
+        // Assert
+        assertEquals("The price for this booking would be 3000 HUF", result);
+    }
+
+    @Test
+    void testShowPricesOn_MergesRowsOfTheSamePrice() {
+        // Arrange
+        LocalDateTime day = LocalDateTime.of(2021, 3, 15, 0, 0);
+        when(pricingService.quotePrices(day, day.plusDays(1))).thenReturn(Result.success(List.of(
+                new PriceQuoteDto("Inception", "Room 1", day.plusHours(10), new int[] {1200, 1200, 1500, 1800}),
+                new PriceQuoteDto("Tenet", "Room 2", day.plusHours(20), new int[] {1500, 1500}))));
+
+        // Act
+        String result = pricingCommand.showPricesOn("2021-03-15");
+
+        // Assert
+        assertEquals("Inception, screened in room Room 1, at 2021-03-15 10:00: "
+                + "rows 1-2: 1200 HUF, row 3: 1500 HUF, row 4: 1800 HUF\n"
+                + "Tenet, screened in room Room 2, at 2021-03-15 20:00: 1500 HUF", result);
+    }
+
+    @Test
+    void testShowPricesOn_WhenThereAreNoScreenings() {
+        // Arrange
+        when(pricingService.quotePrices(any(), any())).thenReturn(Result.success(List.of()));
+
+        // Act
+        String result = pricingCommand.showPricesOn("2021-03-15");
+
+        // Assert
+        assertEquals("There are no screenings on this day", result);
+    }
+
+    @Test
+    void testShowPricesOn_Failure_InvalidDate() {
+        // Act
+        String result = pricingCommand.showPricesOn("15/03/2021");
+
+        // Assert
+        assertEquals("Error: Invalid date format. Use 'yyyy-MM-dd'.", result);
+        verify(pricingService, never()).quotePrices(any(), any());
+    }
+
     @Test
     void testShowPriceFor_Failure_InvalidDate() {
         // Arrange
@@ -4,16 +4,22 @@ import com.epam.training.ticketservice.core.service.impl.ScreeningServiceImpl;
 import com.epam.training.ticketservice.core.data.Result;
 import com.epam.training.ticketservice.core.model.dto.MovieDto;
 import com.epam.training.ticketservice.core.model.dto.RoomDto;
+import com.epam.training.ticketservice.core.model.dto.ScheduleGenerationDto;
 import com.epam.training.ticketservice.core.model.dto.ScreeningDto;
+import com.epam.training.ticketservice.core.model.dto.ScreeningImportDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -170,4 +176,66 @@ class ScreeningCommandTest {
         assertEquals("Error: Invalid date format. Use 'yyyy-MM-dd HH:mm'.", result);
         verifyNoInteractions(screeningService);
     }
+
+    @Test
+    void testImportScreenings_ReportsImportedCountAndRejectedLines() {
+        // Arrange
+        ScreeningImportDto importDto = new ScreeningImportDto(2, List.of("Line 3: There is an overlapping screening"));
+        when(screeningService.importScreenings(Path.of("schedule.csv"))).thenReturn(Result.success(importDto));
+
+        // Act
+        String result = screeningCommand.importScreenings("schedule.csv");
+
+        // Assert
+        assertEquals("Imported 2 screenings\nLine 3: There is an overlapping screening", result);
+    }
+
+    @Test
+    void testImportScreenings_Failure() {
+        // Arrange
+        when(screeningService.importScreenings(Path.of("schedule.csv")))
+                .thenReturn(Result.failure("Error: Cannot read file 'schedule.csv'."));
+
+        // Act
+        String result = screeningCommand.importScreenings("schedule.csv");
+
+        // Assert
+        assertEquals("Error: Cannot read file 'schedule.csv'.", result);
+    }
+
+    @Test
+    void testGenerateSchedule_ReportsGeneratedAndUnscheduledScreenings() {
+        // Arrange
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("Tenet", 10);
+        counts.put("Sátántangó", 2);
+        when(screeningService.generateSchedule(LocalDate.of(2021, 3, 15), LocalDate.of(2021, 3, 16), counts))
+                .thenReturn(Result.success(new ScheduleGenerationDto(11, Map.of("Sátántangó", 1))));
+
+        // Act
+        String result = screeningCommand.generateSchedule("2021-03-15", "2021-03-16", "Tenet=10, Sátántangó=2");
+
+        // Assert
+        assertEquals("Generated 11 screenings\nCould not schedule 1 screenings of Sátántangó", result);
+    }
+
+    @Test
+    void testGenerateSchedule_InvalidScreeningCounts() {
+        // Act
+        String result = screeningCommand.generateSchedule("2021-03-15", "2021-03-16", "Tenet=ten");
+
+        // Assert
+        assertEquals("Error: Invalid screening counts. Use 'title=count,title=count'.", result);
+        verifyNoInteractions(screeningService);
+    }
+
+    @Test
+    void testGenerateSchedule_InvalidDateFormat() {
+        // Act
+        String result = screeningCommand.generateSchedule("15/03/2021", "2021-03-16", "Tenet=10");
+
+        // Assert
+        assertEquals("Error: Invalid date format. Use 'yyyy-MM-dd'.", result);
+        verifyNoInteractions(screeningService);
+    }
 }